@@ -0,0 +1,55 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.domain.user.domain.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증 요청 1건에 대한 JwtAuthenticationFilter 전체 처리 비용
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean accessTokenCacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setup() {
+        JwtProperties properties = JwtBenchmarkSupport.properties(accessTokenCacheEnabled);
+        TokenEpochRegistry tokenEpochRegistry = new TokenEpochRegistry();
+        JwtProvider jwtProvider = JwtBenchmarkSupport.provider(properties, tokenEpochRegistry);
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtProvider, properties),
+                tokenEpochRegistry,
+                new InactiveUserRegistry(),
+                new SimpleMeterRegistry()
+        );
+
+        String accessToken = jwtProvider.createAccessToken(1L, "bench@snippet.dev", UserRole.USER);
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void doFilterInternal(Blackhole blackhole) throws Exception {
+        filter.doFilterInternal(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,75 @@
+package com.develop.snippet.global.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 설정 (application.yml 과 동일한 값)
+ */
+final class JwtBenchmarkSupport {
+
+    static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtProperties properties(boolean accessTokenCacheEnabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setIssuer("snippet");
+        properties.setAccessTokenMinutes(15);
+        properties.setRefreshTokenDays(14);
+        properties.setRefreshCookieName("REFRESH_TOKEN");
+        properties.setRefreshCookiePath("/");
+        properties.setRefreshCookieSecure(false);
+        properties.setRefreshCookieSameSite("Lax");
+        properties.setAccessTokenCacheEnabled(accessTokenCacheEnabled);
+        properties.setAccessTokenCacheMaxSize(10_000L);
+        return properties;
+    }
+
+    /**
+     * 임시 키 쌍을 만들어 비대칭 서명(ES256/EdDSA)으로 전환
+     */
+    static JwtProperties withSigningKey(JwtProperties properties, String algorithm) throws Exception {
+        KeyPairGenerator generator;
+        if ("ES256".equals(algorithm)) {
+            generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else {
+            generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId("bench");
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+
+        properties.setKeys(List.of(key));
+        properties.setActiveKeyId("bench");
+        return properties;
+    }
+
+    static JwtProvider provider(JwtProperties properties) {
+        return provider(properties, new TokenEpochRegistry());
+    }
+
+    static JwtProvider provider(JwtProperties properties, TokenEpochRegistry tokenEpochRegistry) {
+        JwtProvider provider = new JwtProvider(
+                properties,
+                new JwtKeyRing(properties),
+                tokenEpochRegistry,
+                new SimpleMeterRegistry()
+        );
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,56 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.domain.user.domain.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    @Param({"HS512", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setup() throws Exception {
+        JwtProperties properties = JwtBenchmarkSupport.properties(false);
+        if (!"HS512".equals(algorithm)) {
+            JwtBenchmarkSupport.withSigningKey(properties, algorithm);
+        }
+        jwtProvider = JwtBenchmarkSupport.provider(properties);
+        accessToken = jwtProvider.createAccessToken(1L, "bench@snippet.dev", UserRole.USER);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(1L, "bench@snippet.dev", UserRole.USER);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtProvider.createRefreshToken(1L);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyToken() {
+        return jwtProvider.verifyToken(accessToken);
+    }
+}
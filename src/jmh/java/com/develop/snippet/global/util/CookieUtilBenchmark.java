@@ -0,0 +1,35 @@
+package com.develop.snippet.global.util;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@State(Scope.Thread)
+public class CookieUtilBenchmark {
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.setCookies(
+                new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                new Cookie("JSESSIONID", "0123456789ABCDEF0123456789ABCDEF"),
+                new Cookie("theme", "dark"),
+                new Cookie("REFRESH_TOKEN", "refresh-token-value")
+        );
+    }
+
+    @Benchmark
+    public String getRefreshToken() {
+        return CookieUtil.getRefreshToken(request, "REFRESH_TOKEN");
+    }
+
+    @Benchmark
+    public String getRefreshTokenMissing() {
+        return CookieUtil.getRefreshToken(request, "NOT_PRESENT");
+    }
+}
@@ -0,0 +1,24 @@
+package com.develop.snippet.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class HashUtilBenchmark {
+
+    // Refresh Token 과 비슷한 길이의 입력
+    private final String token = "eyJhbGciOiJIUzUxMiJ9."
+            + "eyJzdWIiOiIxIiwidHlwZSI6IlJFRlJFU0giLCJpc3MiOiJzbmlwcGV0IiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDEyMDk2MDB9."
+            + "c2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2lnbmF0dXJl";
+
+    @Benchmark
+    public String sha256() {
+        return HashUtil.sha256(token);
+    }
+
+    @Benchmark
+    public byte[] sha256Bytes() {
+        return HashUtil.sha256Bytes(token);
+    }
+}
@@ -0,0 +1,247 @@
+package com.develop.snippet.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Google 대신 사용하는 로컬 OIDC provider (authorization code flow)
+ * - /.well-known/openid-configuration : discovery
+ * - /jwks                             : id_token 검증용 RSA 공개 키
+ * - /authorize                        : 동의 화면 없이 바로 code 와 함께 redirect_uri 로 302
+ * - /token                            : code -> access_token + id_token (RS256)
+ * - /userinfo                         : access_token -> 사용자 정보
+ * 사용자는 authorize 요청의 login_hint 로 정한다 (sub = login_hint, email = login_hint@loadtest.local).
+ */
+public class FakeOidcProvider implements AutoCloseable {
+
+    private static final String KEY_ID = "loadtest";
+    private static final long TOKEN_SECONDS = 3600;
+
+    private final ObjectMapper objectMapper;
+    private final KeyPair keyPair;
+    private final Map<String, Grant> grantsByCode = new ConcurrentHashMap<>();
+    private final Map<String, Grant> grantsByAccessToken = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String issuer;
+    private byte[] discoveryBody;
+    private byte[] jwksBody;
+
+    public FakeOidcProvider(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.keyPair = generateRsaKeyPair();
+    }
+
+    /**
+     * 임의 포트로 시작
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        issuer = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        discoveryBody = objectMapper.writeValueAsBytes(discovery());
+        jwksBody = objectMapper.writeValueAsBytes(Map.of("keys", List.of(publicJwk())));
+
+        server.createContext("/.well-known/openid-configuration", exchange -> send(exchange, 200, discoveryBody));
+        server.createContext("/jwks", exchange -> send(exchange, 200, jwksBody));
+        server.createContext("/authorize", this::authorize);
+        server.createContext("/token", this::token);
+        server.createContext("/userinfo", this::userInfo);
+        server.start();
+    }
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.close();
+        }
+    }
+
+    private void authorize(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        String redirectUri = params.get("redirect_uri");
+        if (redirectUri == null) {
+            sendError(exchange, 400, "invalid_request");
+            return;
+        }
+
+        String login = params.getOrDefault("login_hint", "user-" + UUID.randomUUID());
+        String code = UUID.randomUUID().toString();
+        grantsByCode.put(code, new Grant(login, params.get("nonce"), params.get("client_id")));
+
+        String location = redirectUri
+                + (redirectUri.contains("?") ? "&" : "?")
+                + "code=" + code
+                + "&state=" + URLEncoder.encode(params.getOrDefault("state", ""), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, String> params = parseQuery(form);
+        Grant grant = grantsByCode.remove(params.getOrDefault("code", ""));
+        if (grant == null) {
+            sendError(exchange, 400, "invalid_grant");
+            return;
+        }
+
+        String accessToken = UUID.randomUUID().toString();
+        grantsByAccessToken.put(accessToken, grant);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("access_token", accessToken);
+        body.put("token_type", "Bearer");
+        body.put("expires_in", TOKEN_SECONDS);
+        body.put("scope", "openid email profile");
+        body.put("id_token", idToken(grant));
+        send(exchange, 200, objectMapper.writeValueAsBytes(body));
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : "";
+        // OidcUserService 는 로그인마다 한 번만 호출하므로 사용 후 제거 (메모리 누적 방지)
+        Grant grant = grantsByAccessToken.remove(accessToken);
+        if (grant == null) {
+            sendError(exchange, 401, "invalid_token");
+            return;
+        }
+
+        send(exchange, 200, objectMapper.writeValueAsBytes(grant.claims()));
+    }
+
+    private String idToken(Grant grant) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer(issuer)
+                .subject(grant.login)
+                .audience().add(grant.clientId).and()
+                .claim("nonce", grant.nonce)
+                .claims(grant.claims())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(TOKEN_SECONDS)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private Map<String, Object> discovery() {
+        Map<String, Object> discovery = new LinkedHashMap<>();
+        discovery.put("issuer", issuer);
+        discovery.put("authorization_endpoint", issuer + "/authorize");
+        discovery.put("token_endpoint", issuer + "/token");
+        discovery.put("userinfo_endpoint", issuer + "/userinfo");
+        discovery.put("jwks_uri", issuer + "/jwks");
+        discovery.put("response_types_supported", List.of("code"));
+        discovery.put("subject_types_supported", List.of("public"));
+        discovery.put("id_token_signing_alg_values_supported", List.of("RS256"));
+        discovery.put("scopes_supported", List.of("openid", "email", "profile"));
+        discovery.put("token_endpoint_auth_methods_supported", List.of("client_secret_basic", "client_secret_post"));
+        return discovery;
+    }
+
+    private Map<String, Object> publicJwk() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("kid", KEY_ID);
+        jwk.put("n", base64Url(publicKey.getModulus()));
+        jwk.put("e", base64Url(publicKey.getPublicExponent()));
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);  // 부호 byte 제거
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int index = pair.indexOf('=');
+            String key = index < 0 ? pair : pair.substring(0, index);
+            String value = index < 0 ? "" : pair.substring(index + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String error) throws IOException {
+        send(exchange, status, objectMapper.writeValueAsBytes(Map.of("error", error)));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static KeyPair generateRsaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA 키 생성 실패", e);
+        }
+    }
+
+    private record Grant(String login, String nonce, String clientId) {
+
+        Map<String, Object> claims() {
+            Map<String, Object> claims = new LinkedHashMap<>();
+            claims.put("sub", login);
+            claims.put("email", login + "@loadtest.local");
+            claims.put("email_verified", true);
+            claims.put("name", login);
+            return claims;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.develop.snippet.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 응답 시간 기록
+ * 가상 사용자(스레드)마다 하나씩 사용하고 종료 후 merge 하므로 동기화하지 않는다.
+ */
+class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    void merge(LatencyStats other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * 분위수 (ms, nearest-rank). 호출 시 정렬되므로 기록이 끝난 뒤에만 사용
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(samples, 0, count);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return toMillis(samples[Math.max(0, rank - 1)]);
+    }
+
+    double maxMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(samples, 0, count);
+        return toMillis(samples[count - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
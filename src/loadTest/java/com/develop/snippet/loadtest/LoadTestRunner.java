@@ -0,0 +1,132 @@
+package com.develop.snippet.loadtest;
+
+import com.develop.snippet.SnippetApplication;
+import com.develop.snippet.loadtest.LoginScenario.Step;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 부하 테스트 (외부 의존 없이 한 대에서 실행)
+ * 1. FakeOidcProvider 기동 (Google 대체)
+ * 2. 애플리케이션을 loadtest 프로필(H2 in-memory)로 기동
+ * 3. 가상 사용자들이 LoginScenario 를 반복 실행
+ * 4. 단계별 처리량 + p50/p95/p99 출력
+ *
+ * ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.duration-seconds=60
+ */
+public class LoadTestRunner {
+
+    private static final String CLIENT_ID = "loadtest-client";
+    private static final String CLIENT_SECRET = "loadtest-secret";
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int distinctUsers = Integer.getInteger("loadtest.distinct-users", users);
+        long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 10L);
+        long durationSeconds = Long.getLong("loadtest.duration-seconds", 30L);
+
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+
+        try (FakeOidcProvider provider = new FakeOidcProvider(objectMapper)) {
+            provider.start();
+
+            try (ConfigurableApplicationContext context = startApplication(provider.getIssuer())) {
+                String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                System.out.printf("Load test: %d users (%d accounts), warm-up %ds, measure %ds, target %s%n",
+                        users, distinctUsers, warmupSeconds, durationSeconds, baseUrl);
+
+                Map<Step, LatencyStats> result = run(baseUrl, objectMapper, users, distinctUsers,
+                        warmupSeconds, durationSeconds);
+                printReport(result, durationSeconds);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String issuer) {
+        // 명령행 인자로 넘겨 application.yml 의 spring.profiles.active 등보다 우선 적용
+        return new SpringApplicationBuilder(SnippetApplication.class).run(
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.security.oauth2.client.registration.google.client-id=" + CLIENT_ID,
+                "--spring.security.oauth2.client.registration.google.client-secret=" + CLIENT_SECRET,
+                "--spring.security.oauth2.client.registration.google.scope=openid,email,profile",
+                "--spring.security.oauth2.client.provider.google.issuer-uri=" + issuer
+        );
+    }
+
+    private static Map<Step, LatencyStats> run(
+            String baseUrl,
+            ObjectMapper objectMapper,
+            int users,
+            int distinctUsers,
+            long warmupSeconds,
+            long durationSeconds
+    ) throws Exception {
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<LoginScenario> scenarios = new ArrayList<>(users);
+        List<Future<?>> futures = new ArrayList<>(users);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .followRedirects(HttpClient.Redirect.NEVER)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+
+            for (int i = 0; i < users; i++) {
+                LoginScenario scenario = new LoginScenario(httpClient, objectMapper, baseUrl, "user-" + (i % distinctUsers));
+                scenarios.add(scenario);
+                futures.add(executor.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < deadline) {
+                        scenario.runOnce(now >= measureStart);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Map<Step, LatencyStats> merged = new EnumMap<>(Step.class);
+        for (Step step : Step.values()) {
+            LatencyStats total = new LatencyStats();
+            scenarios.forEach(scenario -> total.merge(scenario.stats().get(step)));
+            merged.put(step, total);
+        }
+        return merged;
+    }
+
+    private static void printReport(Map<Step, LatencyStats> result, long durationSeconds) {
+        System.out.println();
+        System.out.printf("%-15s %10s %8s %10s %10s %10s %10s %10s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        result.forEach((step, stats) -> System.out.printf("%-15s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                step,
+                stats.count(),
+                stats.errors(),
+                stats.count() / (double) durationSeconds,
+                stats.percentileMillis(50),
+                stats.percentileMillis(95),
+                stats.percentileMillis(99),
+                stats.maxMillis()));
+    }
+}
@@ -0,0 +1,196 @@
+package com.develop.snippet.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가상 사용자 1명의 로그인 시나리오
+ * oauth2Login 시작 -> (fake provider authorize) -> callback(OAuth2SuccessHandler)
+ * -> /api/auth/refresh -> /api/users/me -> /api/auth/logout
+ * 쿠키(JSESSIONID, REFRESH_TOKEN)는 사용자별로 직접 관리한다.
+ */
+class LoginScenario {
+
+    enum Step {
+        LOGIN_START,     // GET /oauth2/authorization/google
+        LOGIN_CALLBACK,  // GET /login/oauth2/code/google (token/jwks/userinfo + 사용자 저장 + 토큰 발급)
+        REFRESH,         // POST /api/auth/refresh
+        ME,              // GET /api/users/me
+        LOGOUT,          // POST /api/auth/logout
+        SCENARIO         // 전체 1회
+    }
+
+    private static final String REFRESH_COOKIE = "REFRESH_TOKEN";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String login;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final Map<Step, LatencyStats> stats = new EnumMap<>(Step.class);
+
+    LoginScenario(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String login) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.login = login;
+        for (Step step : Step.values()) {
+            stats.put(step, new LatencyStats());
+        }
+    }
+
+    Map<Step, LatencyStats> stats() {
+        return stats;
+    }
+
+    /**
+     * 시나리오 1회 실행
+     * @param record false 면 warm-up 으로 보고 기록하지 않음
+     */
+    void runOnce(boolean record) throws IOException, InterruptedException {
+        cookies.clear();
+        long start = System.nanoTime();
+        try {
+            // 1. oauth2Login 시작 -> provider authorize 로 redirect
+            HttpResponse<String> response = timed(Step.LOGIN_START, record, get(baseUrl + "/oauth2/authorization/google"), 302);
+            String authorizeUrl = location(response) + "&login_hint=" + login;
+
+            // 2. fake provider: 바로 code 와 함께 callback 으로 redirect (측정 제외)
+            response = send(get(authorizeUrl));
+            expect(response, 302);
+
+            // 3. callback -> OAuth2SuccessHandler 가 accessToken 과 함께 프론트로 redirect
+            response = timed(Step.LOGIN_CALLBACK, record, get(location(response)), 302);
+            String accessToken = queryParam(location(response), "accessToken");
+
+            // 4. Refresh Token 회전
+            String refreshBody = objectMapper.writeValueAsString(Map.of("refreshToken", requireCookie(REFRESH_COOKIE)));
+            response = timed(Step.REFRESH, record, post(baseUrl + "/api/auth/refresh", refreshBody), 200);
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            accessToken = data.path("accessToken").asString(accessToken);
+
+            // 5. 인증 API
+            timed(Step.ME, record, get(baseUrl + "/api/users/me")
+                    .header("Authorization", "Bearer " + accessToken), 200);
+
+            // 6. 로그아웃
+            timed(Step.LOGOUT, record, post(baseUrl + "/api/auth/logout", ""), 200);
+
+            if (record) {
+                stats.get(Step.SCENARIO).record(System.nanoTime() - start);
+            }
+        } catch (ScenarioFailure e) {
+            if (record) {
+                stats.get(e.step).error();
+                stats.get(Step.SCENARIO).error();
+            }
+        }
+    }
+
+    private HttpResponse<String> timed(Step step, boolean record, HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        long elapsed = System.nanoTime() - start;
+
+        if (response.statusCode() != expectedStatus) {
+            throw new ScenarioFailure(step);
+        }
+        if (record) {
+            stats.get(step).record(elapsed);
+        }
+        return response;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        if (!cookies.isEmpty()) {
+            StringBuilder cookieHeader = new StringBuilder();
+            cookies.forEach((name, value) -> {
+                if (!cookieHeader.isEmpty()) {
+                    cookieHeader.append("; ");
+                }
+                cookieHeader.append(name).append('=').append(value);
+            });
+            request.header("Cookie", cookieHeader.toString());
+        }
+
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        storeCookies(response.headers().allValues("Set-Cookie"));
+        return response;
+    }
+
+    private void storeCookies(List<String> setCookies) {
+        for (String setCookie : setCookies) {
+            String pair = setCookie.split(";", 2)[0];
+            int index = pair.indexOf('=');
+            if (index <= 0) {
+                continue;
+            }
+            String name = pair.substring(0, index).trim();
+            String value = pair.substring(index + 1).trim();
+            if (value.isEmpty() || setCookie.contains("Max-Age=0")) {
+                cookies.remove(name);
+            } else {
+                cookies.put(name, value);
+            }
+        }
+    }
+
+    private String requireCookie(String name) {
+        String value = cookies.get(name);
+        if (value == null) {
+            throw new ScenarioFailure(Step.LOGIN_CALLBACK);
+        }
+        return value;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String jsonBody) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+    }
+
+    private static String location(HttpResponse<String> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+
+    private static void expect(HttpResponse<String> response, int status) {
+        if (response.statusCode() != status) {
+            throw new ScenarioFailure(Step.LOGIN_START);
+        }
+    }
+
+    private static String queryParam(String url, String name) {
+        int start = url.indexOf(name + "=");
+        if (start < 0) {
+            throw new ScenarioFailure(Step.LOGIN_CALLBACK);
+        }
+        start += name.length() + 1;
+        int end = url.indexOf('&', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    private static class ScenarioFailure extends RuntimeException {
+
+        private final Step step;
+
+        ScenarioFailure(Step step) {
+            super(step.name(), null, false, false);
+            this.step = step;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.develop.snippet.domain.auth.controller;
+
+import com.develop.snippet.domain.auth.dto.response.SessionResponse;
+import com.develop.snippet.domain.auth.service.AuthService;
+import com.develop.snippet.global.response.ApiResponse;
+import com.develop.snippet.global.security.jwt.VerifiedTokenCache;
+import com.develop.snippet.global.util.CursorPageRequest;
+import com.develop.snippet.global.util.PageResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/auth")
+@RequiredArgsConstructor
+public class AuthAdminController {
+
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final AuthService authService;
+
+  /**
+   * Access Token 캐시 통계 (사이징용)
+   */
+  @GetMapping("/token-cache")
+  public ResponseEntity<ApiResponse<Map<String, Object>>> tokenCacheStats() {
+    CacheStats stats = verifiedTokenCache.stats();
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("enabled", verifiedTokenCache.isEnabled());
+    response.put("size", verifiedTokenCache.size());
+    response.put("hitCount", stats.hitCount());
+    response.put("missCount", stats.missCount());
+    response.put("hitRate", stats.hitRate());
+    response.put("evictionCount", stats.evictionCount());
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
+  /**
+   * 사용자 로그인 세션(Refresh Token) 목록 (최신순, cursor 페이지)
+   */
+  @GetMapping("/users/{userId}/sessions")
+  public ResponseEntity<ApiResponse<PageResponse<SessionResponse>>> sessions(
+          @PathVariable Long userId,
+          @Valid @ModelAttribute CursorPageRequest request
+  ) {
+    return ResponseEntity.ok(ApiResponse.success(authService.getSessions(userId, request)));
+  }
+}
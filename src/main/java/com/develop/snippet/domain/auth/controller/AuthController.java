@@ -23,14 +23,15 @@ public class AuthController {
   private final AuthService authService;
 
   /**
-   * Access Token 재발급
+   * Access Token 재발급 (Refresh Token 회전)
    */
   @PostMapping("/refresh")
   public ResponseEntity<ApiResponse<TokenResponse>> refresh(
           @Valid @RequestBody RefreshRequest request,
-          HttpServletRequest httpRequest
+          HttpServletRequest httpRequest,
+          HttpServletResponse httpResponse
   ) {
-    TokenResponse tokenResponse = authService.refreshAccessToken(request, httpRequest);
+    TokenResponse tokenResponse = authService.refreshAccessToken(request, httpRequest, httpResponse);
     return ResponseEntity.ok(ApiResponse.success(tokenResponse));
   }
 
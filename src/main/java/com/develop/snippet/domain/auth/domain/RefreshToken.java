@@ -1,5 +1,6 @@
 package com.develop.snippet.domain.auth.domain;
 
+import com.develop.snippet.global.util.PageResponse.Cursor;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,22 +12,32 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_user", columnList = "user_id, created_at"),
+                @Index(name = "idx_refresh_expires", columnList = "expires_at"),
+                @Index(name = "idx_refresh_revoked_at", columnList = "revoked_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class RefreshToken {
 
+    // IDENTITY 는 INSERT 마다 키를 받아야 해서 JDBC batch 불가 -> sequence (50개 단위 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
     @Column(name = "token_id")
     private Long id;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(name = "refresh_token_hash", nullable = false, length = 64)
-    private String refreshTokenHash;
+    // SHA-256 원본 32 bytes (hex CHAR(64) 대비 인덱스 크기 절반)
+    @Column(name = "refresh_token_hash", nullable = false, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] refreshTokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -34,6 +45,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private Boolean revoked = false;
 
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
     @Column(name = "user_agent", length = 255)
     private String userAgent;
 
@@ -47,7 +61,7 @@ public class RefreshToken {
     @Builder
     public RefreshToken(
             Long userId,
-            String refreshTokenHash,
+            byte[] refreshTokenHash,
             LocalDateTime expiresAt,
             String userAgent,
             String ipAddress
@@ -62,7 +76,10 @@ public class RefreshToken {
 
     // 비즈니스 메서드
     public void revoke() {
-        this.revoked = true;
+        if (!this.revoked) {
+            this.revoked = true;
+            this.revokedAt = LocalDateTime.now();
+        }
     }
 
     public boolean isExpired() {
@@ -72,4 +89,8 @@ public class RefreshToken {
     public boolean isValid() {
         return !revoked && !isExpired();
     }
-}
\ No newline at end of file
+
+    public Cursor toCursor() {
+        return new Cursor(createdAt, id);
+    }
+}
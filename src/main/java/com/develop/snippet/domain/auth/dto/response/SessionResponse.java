@@ -0,0 +1,35 @@
+package com.develop.snippet.domain.auth.dto.response;
+
+import com.develop.snippet.domain.auth.domain.RefreshToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 세션 (Refresh Token 1개, 토큰 값은 노출하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionResponse {
+
+  private Long tokenId;
+  private String userAgent;
+  private String ipAddress;
+  private boolean active;
+  private LocalDateTime createdAt;
+  private LocalDateTime expiresAt;
+  private LocalDateTime revokedAt;
+
+  public static SessionResponse of(RefreshToken token) {
+    return new SessionResponse(
+            token.getId(),
+            token.getUserAgent(),
+            token.getIpAddress(),
+            token.isValid(),
+            token.getCreatedAt(),
+            token.getExpiresAt(),
+            token.getRevokedAt()
+    );
+  }
+}
@@ -1,17 +1,24 @@
 package com.develop.snippet.domain.auth.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TokenResponse {
 
   private String accessToken;
   private String tokenType;
   private Long expiresIn;  // 초 단위
+  private String refreshToken;  // 회전된 Refresh Token (쿠키와 동일)
 
   public static TokenResponse of(String accessToken, Long expiresIn) {
-    return new TokenResponse(accessToken, "Bearer", expiresIn);
+    return new TokenResponse(accessToken, "Bearer", expiresIn, null);
+  }
+
+  public static TokenResponse of(String accessToken, String refreshToken, Long expiresIn) {
+    return new TokenResponse(accessToken, "Bearer", expiresIn, refreshToken);
   }
 }
\ No newline at end of file
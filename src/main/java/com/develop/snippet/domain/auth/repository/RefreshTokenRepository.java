@@ -1,30 +1,83 @@
 package com.develop.snippet.domain.auth.repository;
 
 import com.develop.snippet.domain.auth.domain.RefreshToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByRefreshTokenHash(String refreshTokenHash);
+    Optional<RefreshToken> findByRefreshTokenHash(byte[] refreshTokenHash);
 
     List<RefreshToken> findByUserId(Long userId);
 
+    /**
+     * 사용자 세션(Refresh Token) 최신순 keyset 페이지 (idx_refresh_user)
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.userId = :userId " +
+            "AND (rt.createdAt < :createdAt OR (rt.createdAt = :createdAt AND rt.id < :id)) " +
+            "ORDER BY rt.createdAt DESC, rt.id DESC")
+    List<RefreshToken> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    long countByUserId(Long userId);
+
+    /**
+     * Refresh Token 소비 (회전)
+     * 유효한 토큰일 때만 revoke 하며, 반환값(1/0)으로 성공 여부를 판단한다.
+     * 조회 후 갱신하지 않으므로 동시 요청 중 하나만 성공한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now " +
+            "WHERE rt.refreshTokenHash = :hash AND rt.revoked = false AND rt.expiresAt > :now")
+    int consume(@Param("hash") byte[] refreshTokenHash, @Param("now") LocalDateTime now);
+
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.userId = :userId")
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = LOCAL DATETIME " +
+            "WHERE rt.userId = :userId AND rt.revoked = false")
     void revokeAllByUserId(@Param("userId") Long userId);
 
+    /**
+     * 만료 토큰 삭제 (idx_refresh_expires 순서로 최대 limit 건)
+     * 한 번에 전부 지우면 InnoDB 락을 오래 잡으므로 chunk 단위로 나눠 호출한다.
+     */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :dateTime")
-    void deleteExpiredTokens(@Param("dateTime") LocalDateTime dateTime);
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 무효화 후 유예 기간이 지난 토큰 삭제 (최대 limit 건)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE revoked = 1 AND revoked_at < :threshold " +
+            "ORDER BY revoked_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteRevokedChunk(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+
+    /**
+     * 전체 유효 토큰 수 (메트릭 gauge 용)
+     */
+    @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.revoked = false AND rt.expiresAt > :now")
+    long countActiveTokens(@Param("now") LocalDateTime now);
 
     @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.userId = :userId AND rt.revoked = false AND rt.expiresAt > :now")
     long countValidTokensByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
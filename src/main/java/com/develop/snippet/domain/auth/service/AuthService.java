@@ -2,23 +2,40 @@ package com.develop.snippet.domain.auth.service;
 
 import com.develop.snippet.domain.auth.domain.RefreshToken;
 import com.develop.snippet.domain.auth.dto.request.RefreshRequest;
+import com.develop.snippet.domain.auth.dto.response.SessionResponse;
 import com.develop.snippet.domain.auth.dto.response.TokenResponse;
 import com.develop.snippet.domain.auth.repository.RefreshTokenRepository;
-import com.develop.snippet.domain.user.domain.User;
+import com.develop.snippet.domain.auth.support.RefreshTokenStateCache;
+import com.develop.snippet.domain.auth.support.RefreshTokenStateCache.TokenState;
+import com.develop.snippet.domain.auth.support.RefreshTokenStateCache.UserSnapshot;
 import com.develop.snippet.domain.user.repository.UserRepository;
+import com.develop.snippet.domain.user.service.UserService;
 import com.develop.snippet.global.error.ApiErrorCode;
 import com.develop.snippet.global.error.ApiException;
+import com.develop.snippet.global.error.RateLimitedException;
+import com.develop.snippet.global.security.jwt.InactiveUserRegistry;
 import com.develop.snippet.global.security.jwt.JwtProperties;
 import com.develop.snippet.global.security.jwt.JwtProvider;
+import com.develop.snippet.global.security.jwt.VerifiedToken;
+import com.develop.snippet.global.security.ratelimit.AuthRateLimiter;
+import com.develop.snippet.global.util.ClientIpUtil;
 import com.develop.snippet.global.util.CookieUtil;
+import com.develop.snippet.global.util.CursorPageRequest;
 import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.global.util.PageResponse;
+import com.develop.snippet.global.util.PageResponse.Cursor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -28,12 +45,23 @@ public class AuthService {
   private final JwtProperties jwtProperties;
   private final RefreshTokenRepository refreshTokenRepository;
   private final UserRepository userRepository;
+  private final RefreshTokenStateCache refreshTokenStateCache;
+  private final UserService userService;
+  private final InactiveUserRegistry inactiveUserRegistry;
+  private final AuthRateLimiter authRateLimiter;
 
   /**
-   * Refresh Token으로 Access Token 재발급
+   * Refresh Token으로 Access Token 재발급 (Refresh Token 회전)
+   * 기존 토큰은 조건부 UPDATE 한 번으로 소비하고 영향 행 수로 결과를 판단한다.
+   * 이미 소비된 토큰이 다시 들어오면 탈취로 보고 해당 사용자의 토큰을 모두 무효화한다.
+   * (무효화 후 예외를 던지므로 ApiException 은 롤백하지 않음)
    */
-  @Transactional
-  public TokenResponse refreshAccessToken(RefreshRequest request, HttpServletRequest httpRequest) {
+  @Transactional(noRollbackFor = ApiException.class)
+  public TokenResponse refreshAccessToken(
+          RefreshRequest request,
+          HttpServletRequest httpRequest,
+          HttpServletResponse httpResponse
+  ) {
     // 1. Refresh Token 가져오기 (Request Body 우선, 없으면 Cookie)
     String refreshToken = request.getRefreshToken();
     if (refreshToken == null || refreshToken.isEmpty()) {
@@ -45,45 +73,70 @@ public class AuthService {
     }
 
     // 2. Refresh Token 유효성 검증
-    if (!jwtProvider.validateToken(refreshToken)) {
-      throw new ApiException(ApiErrorCode.INVALID_REFRESH_TOKEN);
-    }
+    VerifiedToken verifiedToken = jwtProvider.verifyToken(refreshToken)
+            .orElseThrow(() -> new ApiException(ApiErrorCode.INVALID_REFRESH_TOKEN));
 
     // 3. Refresh Token 타입 확인
-    if (!jwtProvider.isRefreshToken(refreshToken)) {
+    if (!verifiedToken.isRefreshToken()) {
       throw new ApiException(ApiErrorCode.INVALID_TOKEN_TYPE);
     }
 
-    // 4. Refresh Token 해시 계산 및 DB 조회
-    String tokenHash = HashUtil.sha256(refreshToken);
-    RefreshToken storedToken = refreshTokenRepository
-            .findByRefreshTokenHash(tokenHash)
-            .orElseThrow(() -> new ApiException(ApiErrorCode.REFRESH_TOKEN_NOT_FOUND));
+    Long userId = verifiedToken.getUserId();
 
-    // 5. Revoked/만료 확인
-    if (storedToken.getRevoked()) {
-      throw new ApiException(ApiErrorCode.REVOKED_REFRESH_TOKEN);
+    // 3-1. 사용자별 재발급 요청 제한 (해시/DB 조회 전)
+    checkUserRateLimit(userId);
+
+    // 3-2. 정지/탈퇴 사용자 재발급 차단
+    if (inactiveUserRegistry.isInactive(userId)) {
+      throw new ApiException(ApiErrorCode.USER_INACTIVE);
     }
-    if (storedToken.isExpired()) {
-      throw new ApiException(ApiErrorCode.EXPIRED_REFRESH_TOKEN);
+
+    byte[] tokenHash = HashUtil.sha256Bytes(refreshToken);
+    LocalDateTime now = LocalDateTime.now();
+
+    // 4. 이미 무효/만료로 알려진 토큰은 DB 왕복 없이 거절
+    TokenState cachedToken = refreshTokenStateCache.peekToken(tokenHash);
+    if (cachedToken != null && (cachedToken.isRevoked() || cachedToken.isExpired())) {
+      rejectRefresh(cachedToken, now);
     }
 
-    // 6. User 조회
-    User user = userRepository.findById(storedToken.getUserId())
-            .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
+    // 5. 기존 Refresh Token 소비 (조건부 UPDATE 1회, 실패 시에만 원인 조회)
+    if (refreshTokenRepository.consume(tokenHash, now) == 0) {
+      TokenState storedToken = refreshTokenRepository.findByRefreshTokenHash(tokenHash)
+              .map(TokenState::from)
+              .orElseThrow(() -> new ApiException(ApiErrorCode.REFRESH_TOKEN_NOT_FOUND));
+      rejectRefresh(storedToken, now);
+    }
+    refreshTokenStateCache.markRotated(tokenHash, userId,
+            LocalDateTime.ofInstant(verifiedToken.getExpiresAt(), ZoneId.systemDefault()));
+
+    // 6. User 조회 (캐시 → DB)
+    UserSnapshot user = refreshTokenStateCache.getUser(userId, id ->
+            userRepository.findById(id)
+                    .map(UserSnapshot::from)
+                    .orElse(null)
+    );
+    if (user == null) {
+      throw new ApiException(ApiErrorCode.USER_NOT_FOUND);
+    }
 
-    // 7. 새로운 Access Token 생성
+    // 7. 새로운 Access Token / Refresh Token 생성
     String newAccessToken = jwtProvider.createAccessToken(
-            user.getId(),
+            user.getUserId(),
             user.getEmail(),
             user.getRole()
     );
+    String newRefreshToken = jwtProvider.createRefreshToken(userId);
+    saveRefreshToken(userId, newRefreshToken, httpRequest);
+
+    // 8. Refresh Token 쿠키 갱신
+    CookieUtil.addRefreshTokenCookie(httpResponse, newRefreshToken, jwtProperties);
 
-    log.info("Access Token refreshed for userId: {}", user.getId());
+    log.info("Access Token refreshed for userId: {}", userId);
 
-    // 8. 응답 생성
+    // 9. 응답 생성
     Long expiresIn = jwtProperties.getAccessTokenMinutes() * 60L;
-    return TokenResponse.of(newAccessToken, expiresIn);
+    return TokenResponse.of(newAccessToken, newRefreshToken, expiresIn);
   }
 
   /**
@@ -102,11 +155,12 @@ public class AuthService {
     }
 
     // 3. Refresh Token 해시 계산 및 무효화
-    String tokenHash = HashUtil.sha256(refreshToken);
+    byte[] tokenHash = HashUtil.sha256Bytes(refreshToken);
     refreshTokenRepository.findByRefreshTokenHash(tokenHash)
             .ifPresent(token -> {
               token.revoke();
               refreshTokenRepository.save(token);
+              refreshTokenStateCache.revokeToken(tokenHash);
               log.info("Refresh Token revoked for userId: {}", token.getUserId());
             });
 
@@ -119,11 +173,80 @@ public class AuthService {
    */
   @Transactional
   public void logoutAll(Long userId, HttpServletResponse response) {
-    // 1. 사용자의 모든 Refresh Token 무효화
-    refreshTokenRepository.revokeAllByUserId(userId);
-    log.info("All refresh tokens revoked for userId: {}", userId);
+    checkUserRateLimit(userId);
+
+    // 1. 사용자의 모든 Refresh/Access Token 무효화
+    revokeAllTokens(userId);
 
     // 2. 쿠키 삭제
     CookieUtil.deleteRefreshTokenCookie(response, jwtProperties);
   }
+
+  /**
+   * 사용자 세션(Refresh Token) 목록 (관리자용, 최신순 cursor 페이지)
+   */
+  @Transactional(readOnly = true)
+  public PageResponse<SessionResponse> getSessions(Long userId, CursorPageRequest request) {
+    Cursor cursor = request.toCursor();
+    List<RefreshToken> rows = refreshTokenRepository.findPageByUserId(
+            userId, cursor.createdAt(), cursor.id(), Limit.of(request.fetchSize()));
+    Long totalCount = request.isWithCount() ? refreshTokenRepository.countByUserId(userId) : null;
+
+    return PageResponse.of(rows, request.getSize(), RefreshToken::toCursor, totalCount)
+            .map(tokens -> tokens.stream().map(SessionResponse::of).toList());
+  }
+
+  /**
+   * 사용자별 요청 제한 (초과 시 IP 제한과 같은 Retry-After 를 담아 429)
+   */
+  private void checkUserRateLimit(Long userId) {
+    long retryAfterSeconds = authRateLimiter.acquireUser(userId);
+    if (retryAfterSeconds > 0) {
+      throw new RateLimitedException(retryAfterSeconds);
+    }
+  }
+
+  /**
+   * 소비 실패한 Refresh Token 의 원인별 예외
+   */
+  private void rejectRefresh(TokenState token, LocalDateTime now) {
+    if (token.isRevoked()) {
+      // 회전 직후 같은 토큰의 동시 요청(여러 탭 등)은 재사용으로 보지 않음
+      LocalDateTime graceStart = now.minusSeconds(jwtProperties.getRefreshReuseGraceSeconds());
+      if (token.getRevokedAt().isAfter(graceStart)) {
+        throw new ApiException(ApiErrorCode.REVOKED_REFRESH_TOKEN);
+      }
+
+      log.warn("Refresh Token reuse detected for userId: {}", token.getUserId());
+      revokeAllTokens(token.getUserId());
+      throw new ApiException(ApiErrorCode.REFRESH_TOKEN_REUSED);
+    }
+    if (token.isExpired()) {
+      throw new ApiException(ApiErrorCode.EXPIRED_REFRESH_TOKEN);
+    }
+    throw new ApiException(ApiErrorCode.INVALID_REFRESH_TOKEN);
+  }
+
+  /**
+   * 사용자의 모든 Refresh Token 무효화 + Access Token epoch 증가
+   */
+  private void revokeAllTokens(Long userId) {
+    refreshTokenRepository.revokeAllByUserId(userId);
+    refreshTokenStateCache.revokeAllByUserId(userId);
+    userService.revokeAllAccessTokens(userId);
+    log.info("All tokens revoked for userId: {}", userId);
+  }
+
+  private void saveRefreshToken(Long userId, String refreshToken, HttpServletRequest request) {
+    RefreshToken refreshTokenEntity = RefreshToken.builder()
+            .userId(userId)
+            .refreshTokenHash(HashUtil.sha256Bytes(refreshToken))
+            .expiresAt(LocalDateTime.now().plusDays(jwtProperties.getRefreshTokenDays()))
+            .userAgent(request.getHeader("User-Agent"))
+            .ipAddress(ClientIpUtil.getClientIp(request))
+            .build();
+
+    refreshTokenRepository.save(refreshTokenEntity);
+    refreshTokenStateCache.putToken(refreshTokenEntity);
+  }
 }
\ No newline at end of file
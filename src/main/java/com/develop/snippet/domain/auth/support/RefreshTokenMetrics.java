@@ -0,0 +1,44 @@
+package com.develop.snippet.domain.auth.support;
+
+import com.develop.snippet.domain.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유효 Refresh Token 수 gauge
+ * scrape 마다 COUNT 쿼리를 실행하지 않도록 주기적으로 집계한 값을 노출한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenMetrics {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AtomicLong activeTokens = new AtomicLong();
+
+    public RefreshTokenMetrics(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+
+        Gauge.builder("auth.refresh_token.active", activeTokens, AtomicLong::get)
+                .description("revoke/만료되지 않은 Refresh Token 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.security.refresh-token-metrics.initial-delay-ms:10000}",
+            fixedDelayString = "${app.security.refresh-token-metrics.interval-ms:60000}"
+    )
+    public void refresh() {
+        try {
+            activeTokens.set(refreshTokenRepository.countActiveTokens(LocalDateTime.now()));
+        } catch (Exception e) {
+            // 집계 실패 시 이전 값 유지
+            log.warn("Active refresh token count failed: {}", e.getMessage());
+        }
+    }
+}
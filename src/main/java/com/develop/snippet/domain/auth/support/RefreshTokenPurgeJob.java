@@ -0,0 +1,80 @@
+package com.develop.snippet.domain.auth.support;
+
+import com.develop.snippet.domain.auth.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료/무효화된 Refresh Token 정리
+ * chunk 단위 DELETE + chunk 사이 대기로 락 점유와 복제 지연을 제한한다.
+ * - 만료: expires_at < now
+ * - 무효화: revoked_at < now - revoked-grace-hours (재사용 탐지용으로 유예 기간 동안 보관)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.refresh-token-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long revokedGraceHours;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.security.refresh-token-purge.chunk-size:1000}") int chunkSize,
+            @Value("${app.security.refresh-token-purge.pause-ms:200}") long pauseMillis,
+            @Value("${app.security.refresh-token-purge.revoked-grace-hours:24}") long revokedGraceHours
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.revokedGraceHours = revokedGraceHours;
+    }
+
+    @Scheduled(cron = "${app.security.refresh-token-purge.cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = purgeInChunks("expired",
+                () -> refreshTokenRepository.deleteExpiredChunk(now, chunkSize));
+        int revoked = purgeInChunks("revoked",
+                () -> refreshTokenRepository.deleteRevokedChunk(now.minusHours(revokedGraceHours), chunkSize));
+
+        log.info("Refresh Token purge finished - expired: {}, revoked: {}", expired, revoked);
+    }
+
+    private int purgeInChunks(String kind, IntSupplier deleteChunk) {
+        int total = 0;
+        int chunk = 0;
+
+        while (true) {
+            long start = System.nanoTime();
+            int deleted = deleteChunk.getAsInt();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            total += deleted;
+            chunk++;
+            log.info("Refresh Token purge ({}) chunk {} - {} rows in {} ms", kind, chunk, deleted, elapsedMillis);
+
+            if (deleted < chunkSize) {
+                return total;
+            }
+
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Refresh Token purge ({}) interrupted after {} rows", kind, total);
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.develop.snippet.domain.auth.support;
+
+import com.develop.snippet.domain.auth.domain.RefreshToken;
+import com.develop.snippet.domain.user.domain.User;
+import com.develop.snippet.domain.user.domain.UserRole;
+import com.develop.snippet.global.security.jwt.JwtProperties;
+import com.develop.snippet.global.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Refresh Token 상태 + 사용자 정보 캐시
+ * - 토큰 상태: 무효/만료로 알려진 토큰을 DB 왕복 없이 거절 (정상 refresh 는 회전 UPDATE 가 판정)
+ * - 사용자 정보: refresh 시 사용자 조회 생략
+ * 무효화(logout/logoutAll/회전)는 즉시 반영한다.
+ * logoutAll 은 캐시 항목을 훑지 않고 사용자별 무효화 시각만 기록해 조회 시 비교한다.
+ * - 로컬 노드: 무효화 즉시 + 커밋 직후 한 번 더 반영
+ * - 다른 노드: TTL(refresh-state-cache-ttl-seconds) 내 반영
+ * 메트릭: cache.* (cache=refresh.token.state, refresh.user)
+ */
+@Component
+public class RefreshTokenStateCache implements MeterBinder {
+
+    private final Cache<String, TokenState> tokens;
+    private final Cache<Long, UserSnapshot> users;
+    // userId -> 이 시각 이전에 캐시된 토큰은 무효 (토큰 항목과 같은 TTL 이면 충분)
+    private final Cache<Long, LocalDateTime> revokedBefore;
+
+    public RefreshTokenStateCache(JwtProperties jwtProperties) {
+        Duration ttl = Duration.ofSeconds(jwtProperties.getRefreshStateCacheTtlSeconds());
+
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshStateCacheMaxSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.users = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshStateCacheMaxSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshStateCacheMaxSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시된 Refresh Token 상태 (없으면 null)
+     * 이미 무효/만료로 알려진 토큰을 DB 조회 없이 거절하는 용도
+     */
+    public TokenState peekToken(byte[] tokenHash) {
+        TokenState state = tokens.getIfPresent(HashUtil.toHex(tokenHash));
+        if (state == null || state.isRevoked()) {
+            return state;
+        }
+        LocalDateTime revokedAt = revokedBefore.getIfPresent(state.getUserId());
+        return revokedAt != null && !state.getCachedAt().isAfter(revokedAt) ? state.revoke(revokedAt) : state;
+    }
+
+    /**
+     * 사용자 정보 조회 (없으면 loader 로 DB 조회)
+     */
+    public UserSnapshot getUser(Long userId, Function<Long, UserSnapshot> loader) {
+        return users.get(userId, loader);
+    }
+
+    public void putToken(RefreshToken refreshToken) {
+        tokens.put(HashUtil.toHex(refreshToken.getRefreshTokenHash()), TokenState.from(refreshToken));
+    }
+
+    /**
+     * 회전으로 소비된 토큰 기록 (커밋 후 반영: 롤백 시 정상 토큰이 재사용으로 오인되지 않도록)
+     */
+    public void markRotated(byte[] tokenHash, Long userId, LocalDateTime expiresAt) {
+        String key = HashUtil.toHex(tokenHash);
+        LocalDateTime now = LocalDateTime.now();
+        TokenState rotated = new TokenState(userId, now, expiresAt, now);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokens.put(key, rotated);
+                }
+            });
+        } else {
+            tokens.put(key, rotated);
+        }
+    }
+
+    /**
+     * 단일 토큰 무효화 (logout)
+     * 커밋 전 다른 요청이 DB 의 이전 상태를 다시 캐시할 수 있으므로 커밋 후에도 반영한다.
+     */
+    public void revokeToken(byte[] tokenHash) {
+        String key = HashUtil.toHex(tokenHash);
+        runNowAndAfterCommit(() -> tokens.asMap().computeIfPresent(key, (k, state) -> state.revoke(LocalDateTime.now())));
+    }
+
+    /**
+     * 사용자의 모든 토큰 무효화 (logoutAll, revokeAllByUserId)
+     * 지금까지 캐시된 사용자 토큰은 peekToken 에서 무효로 보인다 (캐시 크기와 무관하게 O(1)).
+     * 커밋 후 시각을 다시 기록해 커밋 전에 캐시된 토큰까지 포함한다.
+     */
+    public void revokeAllByUserId(Long userId) {
+        runNowAndAfterCommit(() -> {
+            revokedBefore.put(userId, LocalDateTime.now());
+            users.invalidate(userId);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokens, "refresh.token.state");
+        CaffeineCacheMetrics.monitor(registry, users, "refresh.user");
+    }
+
+    private void runNowAndAfterCommit(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TokenState {
+
+        private final Long userId;
+        private final LocalDateTime revokedAt;  // null 이면 유효
+        private final LocalDateTime expiresAt;
+        private final LocalDateTime cachedAt;   // 사용자 단위 무효화 시각과 비교
+
+        public static TokenState from(RefreshToken refreshToken) {
+            LocalDateTime revokedAt = null;
+            if (refreshToken.getRevoked()) {
+                // revoked_at 도입 전 무효화된 토큰은 시점을 알 수 없으므로 오래전으로 취급
+                revokedAt = refreshToken.getRevokedAt() != null ? refreshToken.getRevokedAt() : LocalDateTime.MIN;
+            }
+            return new TokenState(refreshToken.getUserId(), revokedAt, refreshToken.getExpiresAt(), LocalDateTime.now());
+        }
+
+        public boolean isRevoked() {
+            return revokedAt != null;
+        }
+
+        public boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+
+        TokenState revoke(LocalDateTime revokedAt) {
+            return isRevoked() ? this : new TokenState(userId, revokedAt, expiresAt, cachedAt);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class UserSnapshot {
+
+        private final Long userId;
+        private final String email;
+        private final UserRole role;
+
+        public static UserSnapshot from(User user) {
+            return new UserSnapshot(user.getId(), user.getEmail(), user.getRole());
+        }
+    }
+}
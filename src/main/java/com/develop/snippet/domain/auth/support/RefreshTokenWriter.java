@@ -0,0 +1,228 @@
+package com.develop.snippet.domain.auth.support;
+
+import com.develop.snippet.domain.auth.domain.RefreshToken;
+import com.develop.snippet.domain.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Refresh Token 배치 저장
+ * 로그인 요청들이 큐에 쌓이면 flusher 스레드가 모아서 한 트랜잭션/JDBC batch 로 INSERT 한다.
+ * 호출자는 자신의 토큰이 커밋될 때까지 기다리므로 저장 전에 redirect 되지 않는다.
+ * 큐가 가득 차면 호출 스레드에서 바로 저장한다 (유실 없음).
+ * 대기 시간(timeout-ms)이 지나면 아직 flusher 가 가져가지 않은 요청은 취소되어 저장되지 않는다
+ * (로그인은 실패했는데 토큰 행만 나중에 커밋되는 일이 없도록). 이미 저장 중이면 그 결과를 기다린다.
+ * 배치 INSERT 가 실패하면 행마다 다시 저장해 문제 행의 로그인만 실패시킨다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenWriter {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int batchSize;
+    private final long timeoutMillis;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter fallbackCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public RefreshTokenWriter(
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.refresh-token-writer.batch-size:50}") int batchSize,
+            @Value("${app.security.refresh-token-writer.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.security.refresh-token-writer.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 저장 중인 요청은 취소할 수 없으므로 대기 상한이 되도록 트랜잭션도 같은 시간으로 제한
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+
+        this.flushTimer = Timer.builder("auth.refresh_token.write.flush")
+                .description("Refresh Token 배치 INSERT 트랜잭션 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("auth.refresh_token.write.batch_size")
+                .description("flush 1회당 저장 건수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("auth.refresh_token.write.fallback")
+                .description("큐가 가득 차 호출 스레드에서 직접 저장한 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.refresh_token.write.queue", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "refresh-token-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Refresh Token 저장 (커밋 완료까지 대기)
+     */
+    public void write(RefreshToken refreshToken) {
+        PendingWrite pending = new PendingWrite(refreshToken);
+
+        if (!running || !queue.offer(pending)) {
+            fallbackCounter.increment();
+            transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.save(refreshToken));
+            return;
+        }
+
+        try {
+            try {
+                pending.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.cancel()) {
+                    throw new IllegalStateException("Refresh Token 저장 대기 시간 초과", e);
+                }
+                // flusher 가 이미 저장 중 -> 커밋/롤백 결과를 따름 (트랜잭션 timeout 으로 제한됨)
+                pending.future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!pending.cancel()) {
+                log.warn("Refresh Token write interrupted after it was claimed - userId: {}",
+                        refreshToken.getUserId());
+            }
+            throw new IllegalStateException("Refresh Token 저장 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Refresh Token 저장 실패", e.getCause());
+        }
+    }
+
+    private void runFlusher() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 대기 없이 이미 쌓인 요청만 모음 (한가할 때 지연 추가 없음)
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                // 대기 시간이 지나 취소된 요청은 저장하지 않음
+                batch.removeIf(pending -> !pending.claim());
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Refresh Token writer error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    refreshTokenRepository.saveAll(batch.stream().map(PendingWrite::getRefreshToken).toList())
+            );
+            batch.forEach(pending -> pending.future.complete(null));
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+            log.debug("Refresh Token batch saved: {} rows in {} ms",
+                    batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            // 같은 트랜잭션이므로 배치 전체가 롤백됨 -> 행마다 다시 저장해 실패한 행의 로그인만 실패 처리
+            log.warn("Refresh Token batch insert failed ({} rows), retrying one by one: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        }
+    }
+
+    private void saveOne(PendingWrite pending) {
+        try {
+            // 롤백된 배치에서 sequence id 가 할당된 엔티티는 merge 로 취급되므로 새 엔티티로 저장
+            RefreshToken original = pending.getRefreshToken();
+            transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.save(RefreshToken.builder()
+                    .userId(original.getUserId())
+                    .refreshTokenHash(original.getRefreshTokenHash())
+                    .expiresAt(original.getExpiresAt())
+                    .userAgent(original.getUserAgent())
+                    .ipAddress(original.getIpAddress())
+                    .build()));
+            pending.future.complete(null);
+        } catch (Exception e) {
+            log.error("Refresh Token insert failed - userId: {}, {}",
+                    pending.getRefreshToken().getUserId(), e.getMessage());
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingWrite {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final RefreshToken refreshToken;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        PendingWrite(RefreshToken refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+
+        RefreshToken getRefreshToken() {
+            return refreshToken;
+        }
+
+        /**
+         * flusher 가 저장 대상으로 가져감 (이미 취소됐으면 false)
+         */
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        /**
+         * 호출자 대기 포기 (이미 저장 중이면 false)
+         */
+        boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.develop.snippet.domain.snippet.controller;
+
+import com.develop.snippet.domain.snippet.dto.request.SnippetCodeSearchRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetCreateRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetSearchRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetUpdateRequest;
+import com.develop.snippet.domain.snippet.dto.response.SnippetCodeSearchResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetListItemResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetSearchResponse;
+import com.develop.snippet.domain.snippet.service.SnippetService;
+import com.develop.snippet.domain.snippet.service.SnippetService.RenderTarget;
+import com.develop.snippet.domain.snippet.support.SnippetRawWriter;
+import com.develop.snippet.global.response.ApiResponse;
+import com.develop.snippet.global.security.principal.UserPrincipal;
+import com.develop.snippet.global.util.CursorPageRequest;
+import com.develop.snippet.global.util.PageResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/snippets")
+@RequiredArgsConstructor
+public class SnippetController {
+
+    private final SnippetService snippetService;
+    private final SnippetRawWriter snippetRawWriter;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<SnippetResponse>> create(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody SnippetCreateRequest request
+    ) {
+        SnippetResponse response = snippetService.create(userPrincipal.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    /**
+     * 스니펫 목록 (최신순, cursor 페이지)
+     * userId 가 있으면 해당 사용자 피드 (본인이면 PRIVATE/UNLISTED 포함), 없으면 공개 스니펫 전체
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<SnippetListItemResponse>>> list(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) Long userId,
+            @Valid @ModelAttribute CursorPageRequest request
+    ) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        PageResponse<SnippetListItemResponse> response = userId != null
+                ? snippetService.listByUser(userId, viewerId, request)
+                : snippetService.list(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 스니펫 검색 (비로그인은 PUBLIC 만, 로그인 시 본인 스니펫 포함)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<SnippetSearchResponse>> search(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @ModelAttribute SnippetSearchRequest request
+    ) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        return ResponseEntity.ok(ApiResponse.success(snippetService.search(request, viewerId)));
+    }
+
+    /**
+     * 코드 부분 문자열/정규식 검색 (예: getUserId(, @Transactional)
+     */
+    @GetMapping("/search/code")
+    public ResponseEntity<ApiResponse<SnippetCodeSearchResponse>> searchCode(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @ModelAttribute SnippetCodeSearchRequest request
+    ) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        return ResponseEntity.ok(ApiResponse.success(snippetService.searchCode(request, viewerId)));
+    }
+
+    /**
+     * 스니펫 조회 (비로그인 허용, PRIVATE 는 작성자만)
+     */
+    @GetMapping("/{snippetId}")
+    public ResponseEntity<ApiResponse<SnippetResponse>> get(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long snippetId
+    ) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        return ResponseEntity.ok(ApiResponse.success(snippetService.get(snippetId, viewerId)));
+    }
+
+    /**
+     * 원문 그대로 (text/plain, Range/ETag 지원, JSON 을 거치지 않음)
+     * download=true 면 첨부 파일로 내려준다.
+     */
+    @GetMapping("/{snippetId}/raw")
+    public void raw(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long snippetId,
+            @RequestParam(defaultValue = "false") boolean download,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        snippetRawWriter.write(snippetService.getRaw(snippetId, viewerId), download, request, response);
+    }
+
+    /**
+     * 구문 강조 HTML 조각 (ETag 가 같으면 렌더/캐시 조회 없이 304)
+     * 본문은 모두 escape 되어 있지만 직접 열었을 때를 대비해 스크립트/외부 리소스는 CSP 로 막는다.
+     */
+    @GetMapping("/{snippetId}/html")
+    public ResponseEntity<byte[]> html(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long snippetId,
+            WebRequest webRequest
+    ) {
+        Long viewerId = userPrincipal != null ? userPrincipal.getUserId() : null;
+        RenderTarget target = snippetService.getRenderTarget(snippetId, viewerId);
+        // ETag 는 내용 해시/언어/렌더러 버전만으로 정해지므로 렌더 전에 비교 (304 와 ETag 헤더는 checkNotModified 가 설정)
+        if (webRequest.checkNotModified(target.key().etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .eTag(target.key().etag())
+                .cacheControl(CacheControl.noCache())
+                .header("Content-Security-Policy", "default-src 'none'; style-src 'unsafe-inline'")
+                .body(snippetService.render(target));
+    }
+
+    @PutMapping("/{snippetId}")
+    public ResponseEntity<ApiResponse<SnippetResponse>> update(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long snippetId,
+            @Valid @RequestBody SnippetUpdateRequest request
+    ) {
+        SnippetResponse response = snippetService.update(userPrincipal.getUserId(), snippetId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @DeleteMapping("/{snippetId}")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long snippetId
+    ) {
+        snippetService.delete(userPrincipal.getUserId(), snippetId);
+        return ResponseEntity.ok(ApiResponse.success(null, "삭제되었습니다."));
+    }
+}
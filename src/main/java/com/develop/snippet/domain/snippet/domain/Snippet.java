@@ -0,0 +1,123 @@
+package com.develop.snippet.domain.snippet.domain;
+
+import com.develop.snippet.global.util.PageResponse.Cursor;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스니펫 메타데이터 (본문은 snippet_blobs/LocalFileStorage, 여기서는 해시로만 참조)
+ * 행 크기를 작게 유지해 목록/검색 조회 시 buffer pool 에 본문이 올라오지 않는다.
+ */
+@Entity
+@Table(
+        name = "snippets",
+        indexes = {
+                @Index(name = "idx_snippets_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_snippets_visibility_created", columnList = "visibility, created_at"),
+                @Index(name = "idx_snippets_updated_at", columnList = "updated_at, snippet_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class Snippet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snippet_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private SnippetLanguage language;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SnippetVisibility visibility;
+
+    // snippet_blobs.blob_hash (SHA-256 32 bytes)
+    @Column(name = "blob_hash", nullable = false, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] blobHash;
+
+    // 본문 원문 크기 (UTF-8 bytes)
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Snippet(
+            Long userId,
+            String title,
+            String description,
+            SnippetLanguage language,
+            SnippetVisibility visibility,
+            byte[] blobHash,
+            Long sizeBytes
+    ) {
+        this.userId = userId;
+        this.title = title;
+        this.description = description;
+        this.language = language != null ? language : SnippetLanguage.PLAIN_TEXT;
+        this.visibility = visibility != null ? visibility : SnippetVisibility.PUBLIC;
+        this.blobHash = blobHash;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public void update(String title, String description, SnippetLanguage language, SnippetVisibility visibility) {
+        this.title = title;
+        this.description = description;
+        this.language = language;
+        this.visibility = visibility;
+    }
+
+    public void changeContent(byte[] blobHash, Long sizeBytes) {
+        this.blobHash = blobHash;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+
+    /**
+     * 조회 가능 여부 (PRIVATE 는 작성자만)
+     */
+    public boolean isVisibleTo(Long viewerId) {
+        return visibility != SnippetVisibility.PRIVATE || isOwnedBy(viewerId);
+    }
+
+    /**
+     * 목록/검색 노출 여부 (PUBLIC 또는 작성자 본인, UNLISTED 는 링크로만 조회)
+     */
+    public boolean isListedFor(Long viewerId) {
+        return visibility == SnippetVisibility.PUBLIC || isOwnedBy(viewerId);
+    }
+
+    public Cursor toCursor() {
+        return new Cursor(createdAt, id);
+    }
+}
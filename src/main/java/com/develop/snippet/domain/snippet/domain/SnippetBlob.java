@@ -0,0 +1,50 @@
+package com.develop.snippet.domain.snippet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스니펫 본문 blob (내용 해시 단위로 한 번만 저장, 사용자 간 중복 제거)
+ * 파일은 LocalFileStorage 에 있고, 여기서는 크기와 참조 수만 관리한다.
+ * 쓰기는 모두 SnippetBlobRepository 의 native query (INSERT ... ON DUPLICATE KEY UPDATE 등)로 한다.
+ */
+@Entity
+@Table(
+        name = "snippet_blobs",
+        indexes = @Index(name = "idx_snippet_blobs_gc", columnList = "ref_count, updated_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnippetBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "blob_id")
+    private Long id;
+
+    // SHA-256(원문 UTF-8) 32 bytes
+    @Column(name = "blob_hash", nullable = false, unique = true, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] hash;
+
+    // 원문 크기
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    // 압축 후 파일 크기
+    @Column(name = "stored_bytes", nullable = false)
+    private Long storedBytes;
+
+    // 이 blob 을 가리키는 snippets 행 수 (0 이 되고 유예 시간이 지나면 GC)
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.develop.snippet.domain.snippet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 스니펫 기록 (검색 색인 동기화용 tombstone)
+ * 다른 노드나 중지돼 있던 노드는 snippets 행이 사라진 것을 알 수 없으므로 이 기록으로 색인에서 지운다.
+ * 보관 기간(app.search.deletion-retention-days)이 지나면 삭제, 쓰기는 SnippetDeletionRepository 의 native query 로 한다.
+ */
+@Entity
+@Table(
+        name = "snippet_deletions",
+        indexes = @Index(name = "idx_snippet_deletions_deleted_at", columnList = "deleted_at, snippet_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnippetDeletion {
+
+    // snippets.snippet_id (재사용되지 않음)
+    @Id
+    @Column(name = "snippet_id")
+    private Long snippetId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
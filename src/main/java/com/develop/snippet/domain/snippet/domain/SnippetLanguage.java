@@ -0,0 +1,10 @@
+package com.develop.snippet.domain.snippet.domain;
+
+public enum SnippetLanguage {
+    PLAIN_TEXT,
+    JAVA, KOTLIN, GROOVY, SCALA,
+    JAVASCRIPT, TYPESCRIPT,
+    PYTHON, RUBY, PHP, GO, RUST, C, CPP, CSHARP, SWIFT,
+    SQL, SHELL, DOCKERFILE,
+    HTML, CSS, JSON, YAML, XML, MARKDOWN
+}
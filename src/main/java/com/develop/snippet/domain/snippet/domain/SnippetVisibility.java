@@ -0,0 +1,7 @@
+package com.develop.snippet.domain.snippet.domain;
+
+public enum SnippetVisibility {
+    PUBLIC,    // 목록/검색 노출
+    UNLISTED,  // 링크를 아는 사람만
+    PRIVATE    // 작성자만
+}
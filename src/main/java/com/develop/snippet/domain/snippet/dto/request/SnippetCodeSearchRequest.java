@@ -0,0 +1,33 @@
+package com.develop.snippet.domain.snippet.dto.request;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 코드 부분 문자열/정규식 검색 (query string 바인딩)
+ * q 에는 3자 이상의 고정 문자열이 있어야 한다 (정규식이면 '|' 없이 최상위에).
+ */
+@Getter
+@Setter
+public class SnippetCodeSearchRequest {
+
+    @NotBlank(message = "검색어는 필수입니다.")
+    @Size(max = 200, message = "검색어는 200자 이하여야 합니다.")
+    private String q;
+
+    private boolean regex = false;
+
+    private SnippetLanguage language;
+
+    // 이전 응답의 nextBeforeId (첫 페이지는 생략)
+    private Long beforeId;
+
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "size 는 50 이하여야 합니다.")
+    private int size = 20;
+}
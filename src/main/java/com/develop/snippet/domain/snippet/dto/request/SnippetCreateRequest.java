@@ -0,0 +1,34 @@
+package com.develop.snippet.domain.snippet.dto.request;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class SnippetCreateRequest {
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 200, message = "제목은 200자 이하여야 합니다.")
+    private String title;
+
+    @Size(max = 1000, message = "설명은 1000자 이하여야 합니다.")
+    private String description;
+
+    private SnippetLanguage language;
+
+    private SnippetVisibility visibility;
+
+    // 크기 제한은 UTF-8 bytes 기준으로 서비스에서 확인 (app.storage.max-content-bytes)
+    @NotNull(message = "본문은 필수입니다.")
+    private String content;
+
+    // 최대 10개, 소문자로 정규화
+    private List<String> tags;
+}
@@ -0,0 +1,31 @@
+package com.develop.snippet.domain.snippet.dto.request;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 스니펫 검색 (query string 바인딩)
+ * q 는 단순 질의 문법: 공백은 AND, "a | b" OR, "-a" 제외, "\"구문\"", "접두*"
+ */
+@Getter
+@Setter
+public class SnippetSearchRequest {
+
+    @NotBlank(message = "검색어는 필수입니다.")
+    @Size(max = 200, message = "검색어는 200자 이하여야 합니다.")
+    private String q;
+
+    private SnippetLanguage language;
+
+    @Min(value = 0, message = "page 는 0 이상이어야 합니다.")
+    private int page = 0;
+
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "size 는 50 이하여야 합니다.")
+    private int size = 20;
+}
@@ -0,0 +1,32 @@
+package com.develop.snippet.domain.snippet.dto.request;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스니펫 수정 (null 인 항목은 유지)
+ */
+@Getter
+@NoArgsConstructor
+public class SnippetUpdateRequest {
+
+    @Size(min = 1, max = 200, message = "제목은 1~200자여야 합니다.")
+    private String title;
+
+    @Size(max = 1000, message = "설명은 1000자 이하여야 합니다.")
+    private String description;
+
+    private SnippetLanguage language;
+
+    private SnippetVisibility visibility;
+
+    private String content;
+
+    // null 이면 유지, 빈 목록이면 모두 제거
+    private List<String> tags;
+}
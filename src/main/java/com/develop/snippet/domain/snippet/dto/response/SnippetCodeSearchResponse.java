@@ -0,0 +1,14 @@
+package com.develop.snippet.domain.snippet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SnippetCodeSearchResponse {
+
+    private List<SnippetListItemResponse> items;
+    private Long nextBeforeId;  // null 이면 마지막 페이지
+}
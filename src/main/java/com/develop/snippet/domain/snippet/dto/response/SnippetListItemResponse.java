@@ -0,0 +1,44 @@
+package com.develop.snippet.domain.snippet.dto.response;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록/검색 결과 항목 (본문 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class SnippetListItemResponse {
+
+    private Long snippetId;
+    private Long userId;
+    private String title;
+    private String description;
+    private SnippetLanguage language;
+    private SnippetVisibility visibility;
+    private List<String> tags;
+    private Long sizeBytes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static SnippetListItemResponse of(Snippet snippet, List<String> tags) {
+        return new SnippetListItemResponse(
+                snippet.getId(),
+                snippet.getUserId(),
+                snippet.getTitle(),
+                snippet.getDescription(),
+                snippet.getLanguage(),
+                snippet.getVisibility(),
+                tags,
+                snippet.getSizeBytes(),
+                snippet.getCreatedAt(),
+                snippet.getUpdatedAt()
+        );
+    }
+}
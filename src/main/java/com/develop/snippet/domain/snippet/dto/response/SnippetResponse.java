@@ -0,0 +1,46 @@
+package com.develop.snippet.domain.snippet.dto.response;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import com.develop.snippet.global.util.HashUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SnippetResponse {
+
+    private Long snippetId;
+    private Long userId;
+    private String title;
+    private String description;
+    private SnippetLanguage language;
+    private SnippetVisibility visibility;
+    private List<String> tags;
+    private String content;
+    private String contentHash;  // SHA-256 hex (같은 본문이면 같은 값)
+    private Long sizeBytes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static SnippetResponse of(Snippet snippet, List<String> tags, String content) {
+        return new SnippetResponse(
+                snippet.getId(),
+                snippet.getUserId(),
+                snippet.getTitle(),
+                snippet.getDescription(),
+                snippet.getLanguage(),
+                snippet.getVisibility(),
+                tags,
+                content,
+                HashUtil.toHex(snippet.getBlobHash()),
+                snippet.getSizeBytes(),
+                snippet.getCreatedAt(),
+                snippet.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.develop.snippet.domain.snippet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SnippetSearchResponse {
+
+    private List<SnippetListItemResponse> items;
+    private long totalHits;  // 색인 기준 (삭제 반영 전 문서가 포함될 수 있어 근사값)
+    private int page;
+    private int size;
+}
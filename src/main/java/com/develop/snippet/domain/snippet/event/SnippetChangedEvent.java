@@ -0,0 +1,7 @@
+package com.develop.snippet.domain.snippet.event;
+
+/**
+ * 스니펫 생성/수정/삭제 (커밋 후 처리하는 쪽에서 현재 상태를 다시 조회한다)
+ */
+public record SnippetChangedEvent(Long snippetId) {
+}
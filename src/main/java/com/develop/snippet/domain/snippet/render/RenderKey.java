@@ -0,0 +1,24 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.global.util.HashUtil;
+
+import java.util.Locale;
+
+/**
+ * 렌더 결과 캐시 키 (내용이 같고 언어/렌더러 버전이 같으면 결과도 같음)
+ * @param contentHash blob SHA-256 hex
+ */
+public record RenderKey(String contentHash, SnippetLanguage language, int version) {
+
+    public static RenderKey of(byte[] blobHash, SnippetLanguage language) {
+        return new RenderKey(HashUtil.toHex(blobHash), language, SyntaxHighlighter.VERSION);
+    }
+
+    /**
+     * strong ETag (렌더러 버전이 바뀌면 클라이언트 캐시도 무효)
+     */
+    public String etag() {
+        return "\"" + contentHash + "-" + language.name().toLowerCase(Locale.ROOT) + "-v" + version + "\"";
+    }
+}
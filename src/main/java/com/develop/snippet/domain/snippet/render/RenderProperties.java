@@ -0,0 +1,26 @@
+package com.develop.snippet.domain.snippet.render;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.render")
+public class RenderProperties {
+
+    private Long heapMaxBytes = 64L * 1024 * 1024;  // 메모리 캐시 상한 (렌더 결과 bytes 합)
+    private Disk disk = new Disk();
+
+    @Getter
+    @Setter
+    public static class Disk {
+
+        private Boolean enabled = false;                    // {storage.root}/render 아래 렌더 결과 보관
+        private Long maxBytes = 1024L * 1024 * 1024;       // 디스크 캐시 상한 (초과 시 오래 안 읽힌 파일부터 삭제)
+        private Integer minSpillBytes = 16 * 1024;          // 이보다 작은 결과는 다시 렌더하는 편이 싸므로 쓰지 않음
+        private String cleanupCron = "0 15 * * * *";
+    }
+}
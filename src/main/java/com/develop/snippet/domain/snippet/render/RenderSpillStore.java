@@ -0,0 +1,203 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.develop.snippet.infra.storage.StorageProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 렌더 결과 디스크 캐시 (app.render.disk.enabled 일 때만)
+ * - 경로: {storage.root}/render/v{VERSION}/{language}/ab/{hash}.html
+ * - 메모리 캐시에서 밀려난 큰 결과를 다시 렌더하지 않고 읽기 위한 2차 캐시, 실패해도 렌더로 대신하므로 오류는 로그만 남긴다
+ * - 읽을 때 수정 시각을 갱신하고, 용량을 넘으면 수정 시각이 오래된 파일부터 삭제 (LRU 근사)
+ * 기동 시 현재 VERSION 이 아닌 디렉터리는 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RenderSpillStore {
+
+    private static final String EXTENSION = ".html";
+    private static final String TEMP_EXTENSION = ".tmp";
+    // 쓰는 중인 임시 파일을 지우지 않도록 이보다 오래된 것만 정리 (중간에 죽은 프로세스가 남긴 것)
+    private static final Duration STALE_TEMP_AGE = Duration.ofMinutes(10);
+
+    private final RenderProperties renderProperties;
+    private final StorageProperties storageProperties;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!renderProperties.getDisk().getEnabled()) {
+            return;
+        }
+        Path base = Paths.get(storageProperties.getRoot()).toAbsolutePath().normalize().resolve("render");
+        root = base.resolve("v" + SyntaxHighlighter.VERSION);
+        Files.createDirectories(root);
+
+        try (Stream<Path> versions = Files.list(base)) {
+            versions.filter(dir -> !dir.equals(root) && dir.getFileName().toString().startsWith("v"))
+                    .forEach(RenderSpillStore::deleteRecursively);
+        }
+        log.info("Render spill storage: {}", root);
+    }
+
+    /**
+     * @return 저장된 렌더 결과, 없으면 null
+     */
+    public byte[] read(RenderKey key) {
+        if (root == null) {
+            return null;
+        }
+        Path path = resolve(key);
+        try {
+            byte[] html = Files.readAllBytes(path);
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return html;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Render spill read failed: {} - {}", path.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일 -> rename (읽는 쪽은 완성된 파일만 봄), min-spill-bytes 미만은 쓰지 않음
+     */
+    public void write(RenderKey key, byte[] html) {
+        if (root == null || html.length < renderProperties.getDisk().getMinSpillBytes()) {
+            return;
+        }
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_EXTENSION);
+            Files.write(temp, html);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException e) {
+            log.warn("Render spill write failed: {} - {}", target.getFileName(), e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteRecursively(temp);
+            }
+        }
+    }
+
+    /**
+     * 용량(max-bytes) 초과분 정리, 오래된 임시 파일 삭제
+     */
+    @Scheduled(cron = "${app.render.disk.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        if (root == null) {
+            return;
+        }
+        List<SpillFile> files = new ArrayList<>();
+        long total = 0;
+        int staleTemps = 0;
+        Instant staleBefore = Instant.now().minus(STALE_TEMP_AGE);
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    if (deleteIfStale(path, staleBefore)) {
+                        staleTemps++;
+                    }
+                    continue;
+                }
+                if (!name.endsWith(EXTENSION)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                files.add(new SpillFile(path, attributes.size(), attributes.lastModifiedTime()));
+                total += attributes.size();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Render spill scan failed: {}", e.getMessage());
+            return;
+        }
+        if (staleTemps > 0) {
+            log.info("Render spill cleanup - deleted stale temp files: {}", staleTemps);
+        }
+
+        long maxBytes = renderProperties.getDisk().getMaxBytes();
+        if (total <= maxBytes) {
+            return;
+        }
+        files.sort(Comparator.comparing(SpillFile::lastModified));
+        int deleted = 0;
+        for (SpillFile file : files) {
+            if (total <= maxBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+                total -= file.size();
+                deleted++;
+            } catch (IOException e) {
+                log.warn("Render spill delete failed: {} - {}", file.path().getFileName(), e.getMessage());
+            }
+        }
+        log.info("Render spill cleanup - deleted: {}, remaining bytes: {}", deleted, total);
+    }
+
+    private static boolean deleteIfStale(Path temp, Instant staleBefore) {
+        try {
+            if (Files.getLastModifiedTime(temp).toInstant().isAfter(staleBefore)) {
+                return false;
+            }
+            return Files.deleteIfExists(temp);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Render spill delete failed: {} - {}", temp.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Path resolve(RenderKey key) {
+        String hash = key.contentHash();
+        return root.resolve(key.language().name().toLowerCase(Locale.ROOT))
+                .resolve(hash.substring(0, 2))
+                .resolve(hash + EXTENSION);
+    }
+
+    private static void deleteRecursively(Path path) {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(target -> {
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException e) {
+                    log.warn("렌더 캐시 파일 삭제 실패: {}", target, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("렌더 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private record SpillFile(Path path, long size, FileTime lastModified) {
+    }
+}
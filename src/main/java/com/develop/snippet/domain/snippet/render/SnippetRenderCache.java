@@ -0,0 +1,109 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 구문 강조 HTML 캐시 ((내용 해시, 언어, 렌더러 버전) -> UTF-8 HTML)
+ * - 메모리: 렌더 결과 bytes 합(heap-max-bytes) 기준으로 제한
+ * - 디스크: 메모리에 없으면 RenderSpillStore 를 먼저 확인, 새로 렌더한 결과는 함께 기록
+ * - 같은 키의 동시 요청은 처음 요청 하나만 렌더하고 나머지는 그 결과를 기다린다
+ * 내용이 바뀌면 해시가 바뀌므로 무효화가 필요 없다.
+ * 메트릭: cache.* (cache=snippet.render), snippet.render (실제 렌더 시간), snippet.render.spill.hits
+ */
+@Component
+public class SnippetRenderCache {
+
+    // 키/Future/노드 등 항목당 대략적인 고정 비용
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final SyntaxHighlighter syntaxHighlighter;
+    private final RenderSpillStore spillStore;
+    private final AsyncCache<RenderKey, byte[]> cache;
+    private final Timer renderTimer;
+    private final Counter spillHits;
+
+    public SnippetRenderCache(
+            SyntaxHighlighter syntaxHighlighter,
+            RenderSpillStore spillStore,
+            RenderProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.syntaxHighlighter = syntaxHighlighter;
+        this.spillStore = spillStore;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getHeapMaxBytes())
+                .weigher((RenderKey key, byte[] html) -> html.length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .buildAsync();
+        this.renderTimer = Timer.builder("snippet.render")
+                .description("구문 강조 렌더 시간 (캐시 miss)")
+                .register(meterRegistry);
+        this.spillHits = Counter.builder("snippet.render.spill.hits")
+                .description("디스크 캐시에서 읽은 렌더 결과 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "snippet.render");
+    }
+
+    /**
+     * 렌더 결과 조회 (없으면 contentLoader 로 원문을 읽어 렌더)
+     * 렌더는 호출 스레드에서 실행하고, 같은 키를 기다리던 요청은 완료된 결과(또는 예외)를 함께 받는다.
+     * 실패한 결과는 캐시에 남기지 않으므로 다음 요청이 다시 시도한다.
+     */
+    public byte[] get(RenderKey key, Supplier<byte[]> contentLoader) {
+        CompletableFuture<byte[]> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            byte[] html = load(key, contentLoader);
+            created.complete(html);
+            return html;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] load(RenderKey key, Supplier<byte[]> contentLoader) {
+        byte[] spilled = spillStore.read(key);
+        if (spilled != null) {
+            spillHits.increment();
+            return spilled;
+        }
+
+        byte[] content = contentLoader.get();
+        byte[] html = renderTimer.record(() -> syntaxHighlighter.render(content, key.language()));
+        spillStore.write(key, html);
+        return html;
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 렌더한 요청과 같은 예외(ApiException 등)로 응답
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구문 강조 HTML 렌더러 (한 번 훑으면서 주석/문자열/숫자/키워드를 span 으로 감쌈)
+ * - 출력: <pre class="snippet language-xxx"><code>...</code></pre>, class 는 tok-com / tok-str / tok-num / tok-kw
+ * - 본문은 모두 HTML escape 하므로 태그/스크립트가 그대로 실행되지 않는다
+ * 출력 형식이 바뀌면 VERSION 을 올린다 (캐시 키와 디스크 캐시 디렉터리에 포함, 이전 결과는 자동으로 버려짐).
+ */
+@Component
+public class SyntaxHighlighter {
+
+    public static final int VERSION = 1;
+
+    private static final Syntax ESCAPE_ONLY = new Syntax(new String[0], null, null, "", Set.of(), false);
+    private static final Map<SnippetLanguage, Syntax> SYNTAXES = new EnumMap<>(SnippetLanguage.class);
+
+    static {
+        String[] slash = {"//"};
+        String[] hash = {"#"};
+
+        SYNTAXES.put(SnippetLanguage.JAVA, new Syntax(slash, "/*", "*/", "\"'", keywords(
+                "abstract assert boolean break byte case catch char class const continue default do double else enum "
+                        + "extends final finally float for if implements import instanceof int interface long native new "
+                        + "package private protected public record return short static super switch synchronized this "
+                        + "throw throws transient try var void volatile while yield true false null"), false));
+        SYNTAXES.put(SnippetLanguage.KOTLIN, new Syntax(slash, "/*", "*/", "\"'", keywords(
+                "as break class continue do else false for fun if in interface is null object package return super "
+                        + "this throw true try typealias val var when while by constructor data enum import init "
+                        + "internal lateinit open override private protected public sealed suspend companion"), false));
+        SYNTAXES.put(SnippetLanguage.GROOVY, new Syntax(slash, "/*", "*/", "\"'", keywords(
+                "as assert break case catch class def default do else enum extends false final finally for if "
+                        + "implements import in instanceof interface new null package private protected public return "
+                        + "static super switch this throw throws trait true try var void while"), false));
+        SYNTAXES.put(SnippetLanguage.SCALA, new Syntax(slash, "/*", "*/", "\"'", keywords(
+                "abstract case catch class def do else extends false final finally for if implicit import lazy match "
+                        + "new null object override package private protected return sealed super this throw trait "
+                        + "true try type val var while with yield given using enum then"), false));
+        Set<String> javascript = keywords(
+                "async await break case catch class const continue debugger default delete do else export extends "
+                        + "false finally for from function if import in instanceof let new null of return static super "
+                        + "switch this throw true try typeof undefined var void while yield");
+        SYNTAXES.put(SnippetLanguage.JAVASCRIPT, new Syntax(slash, "/*", "*/", "\"'`", javascript, false));
+        SYNTAXES.put(SnippetLanguage.TYPESCRIPT, new Syntax(slash, "/*", "*/", "\"'`", union(javascript, keywords(
+                "abstract any as boolean declare enum implements interface keyof namespace never number private "
+                        + "protected public readonly string type unknown")), false));
+        SYNTAXES.put(SnippetLanguage.PYTHON, new Syntax(hash, null, null, "\"'", keywords(
+                "False None True and as assert async await break class continue def del elif else except finally for "
+                        + "from global if import in is lambda nonlocal not or pass raise return try while with yield"),
+                false));
+        SYNTAXES.put(SnippetLanguage.RUBY, new Syntax(hash, null, null, "\"'", keywords(
+                "BEGIN END alias and begin break case class def do else elsif end ensure false for if in "
+                        + "module next nil not or redo rescue retry return self super then true undef unless until when "
+                        + "while yield"), false));
+        SYNTAXES.put(SnippetLanguage.PHP, new Syntax(new String[]{"//", "#"}, "/*", "*/", "\"'", keywords(
+                "abstract and array as break case catch class clone const continue declare default do echo else "
+                        + "elseif empty enum extends false final finally fn for foreach function global if implements "
+                        + "include instanceof interface isset list match namespace new null or private protected "
+                        + "public readonly require return static switch throw trait true try unset use var while yield"),
+                true));
+        SYNTAXES.put(SnippetLanguage.GO, new Syntax(slash, "/*", "*/", "\"'`", keywords(
+                "break case chan const continue default defer else fallthrough for func go goto if import interface "
+                        + "map package range return select struct switch type var true false nil"), false));
+        // 'a 같은 lifetime 이 문자열로 보이지 않도록 작은따옴표는 제외
+        SYNTAXES.put(SnippetLanguage.RUST, new Syntax(slash, "/*", "*/", "\"", keywords(
+                "as async await break const continue crate dyn else enum extern false fn for if impl in let loop "
+                        + "match mod move mut pub ref return self Self static struct super trait true type unsafe use "
+                        + "where while"), false));
+        Set<String> c = keywords(
+                "auto break case char const continue default do double else enum extern float for goto if inline int "
+                        + "long register restrict return short signed sizeof static struct switch typedef union "
+                        + "unsigned void volatile while NULL");
+        SYNTAXES.put(SnippetLanguage.C, new Syntax(slash, "/*", "*/", "\"'", c, false));
+        SYNTAXES.put(SnippetLanguage.CPP, new Syntax(slash, "/*", "*/", "\"'", union(c, keywords(
+                "bool catch class constexpr delete explicit false friend mutable namespace new noexcept nullptr "
+                        + "operator override private protected public template this throw true try typename using "
+                        + "virtual")), false));
+        SYNTAXES.put(SnippetLanguage.CSHARP, new Syntax(slash, "/*", "*/", "\"'", keywords(
+                "abstract as async await base bool break byte case catch char class const continue decimal default "
+                        + "delegate do double else enum event false finally float for foreach if in int interface "
+                        + "internal is lock long namespace new null object out override private protected public "
+                        + "readonly record ref return sealed short static string struct switch this throw true try "
+                        + "using var virtual void while"), false));
+        SYNTAXES.put(SnippetLanguage.SWIFT, new Syntax(slash, "/*", "*/", "\"", keywords(
+                "as associatedtype break case catch class continue default defer do else enum extension false "
+                        + "fileprivate for func guard if import in init inout internal is let nil private protocol "
+                        + "public repeat rethrows return self static struct subscript super switch throw throws true "
+                        + "try var where while"), false));
+        SYNTAXES.put(SnippetLanguage.SQL, new Syntax(new String[]{"--"}, "/*", "*/", "'\"`", keywords(
+                "add all alter and as asc between by case create default delete desc distinct drop else end exists "
+                        + "foreign from group having if in index inner insert into is join key left like limit not null "
+                        + "on or order outer primary procedure references right select set table then union unique "
+                        + "update values when where with"), true));
+        SYNTAXES.put(SnippetLanguage.SHELL, new Syntax(hash, null, null, "\"'", keywords(
+                "case do done elif else esac export fi for function if in local readonly return select then until "
+                        + "while"), false));
+        SYNTAXES.put(SnippetLanguage.DOCKERFILE, new Syntax(hash, null, null, "\"'", keywords(
+                "ADD ARG CMD COPY ENTRYPOINT ENV EXPOSE FROM HEALTHCHECK LABEL ONBUILD RUN SHELL STOPSIGNAL USER "
+                        + "VOLUME WORKDIR AS"), false));
+        SYNTAXES.put(SnippetLanguage.CSS, new Syntax(new String[0], "/*", "*/", "\"'", Set.of(), false));
+        SYNTAXES.put(SnippetLanguage.JSON, new Syntax(new String[0], null, null, "\"", keywords("true false null"),
+                false));
+        SYNTAXES.put(SnippetLanguage.YAML, new Syntax(hash, null, null, "\"'", keywords(
+                "true false null yes no on off"), true));
+    }
+
+    /**
+     * @return UTF-8 HTML
+     */
+    public byte[] render(byte[] content, SnippetLanguage language) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        Syntax syntax = SYNTAXES.getOrDefault(language, ESCAPE_ONLY);
+
+        StringBuilder html = new StringBuilder(text.length() + text.length() / 4 + 64);
+        html.append("<pre class=\"snippet language-")
+                .append(language.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                .append("\"><code>");
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            int end;
+            if (syntax.blockStart != null && text.startsWith(syntax.blockStart, i)) {
+                end = text.indexOf(syntax.blockEnd, i + syntax.blockStart.length());
+                end = end < 0 ? length : end + syntax.blockEnd.length();
+                span(html, "tok-com", text, i, end);
+            } else if (startsLineComment(syntax, text, i)) {
+                end = text.indexOf('\n', i);
+                end = end < 0 ? length : end;
+                span(html, "tok-com", text, i, end);
+            } else if (syntax.quotes.indexOf(ch) >= 0) {
+                end = stringEnd(text, i, ch);
+                span(html, "tok-str", text, i, end);
+            } else if (isDigit(ch) && (i == 0 || !isIdentifierPart(text.charAt(i - 1)))) {
+                end = i + 1;
+                while (end < length && (isIdentifierPart(text.charAt(end)) || text.charAt(end) == '.')) {
+                    end++;
+                }
+                span(html, "tok-num", text, i, end);
+            } else if (isIdentifierStart(ch)) {
+                end = i + 1;
+                while (end < length && isIdentifierPart(text.charAt(end))) {
+                    end++;
+                }
+                String word = text.substring(i, end);
+                if (syntax.keywords.contains(syntax.ignoreCase ? word.toLowerCase(Locale.ROOT) : word)) {
+                    span(html, "tok-kw", text, i, end);
+                } else {
+                    escape(html, text, i, end);
+                }
+            } else {
+                end = i + 1;
+                escape(html, text, i, end);
+            }
+            i = end;
+        }
+
+        html.append("</code></pre>");
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsLineComment(Syntax syntax, String text, int index) {
+        for (String prefix : syntax.lineComments) {
+            if (text.startsWith(prefix, index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 닫는 따옴표 다음 위치 (escape 건너뜀, 닫히지 않으면 줄 끝까지, ` 는 여러 줄 허용)
+     */
+    private static int stringEnd(String text, int start, char quote) {
+        int i = start + 1;
+        while (i < text.length()) {
+            char ch = text.charAt(i);
+            if (ch == '\\') {
+                i += 2;
+                continue;
+            }
+            if (ch == quote) {
+                return i + 1;
+            }
+            if (ch == '\n' && quote != '`') {
+                return i;
+            }
+            i++;
+        }
+        return text.length();
+    }
+
+    private static void span(StringBuilder html, String tokenClass, String text, int start, int end) {
+        html.append("<span class=\"").append(tokenClass).append("\">");
+        escape(html, text, start, end);
+        html.append("</span>");
+    }
+
+    private static void escape(StringBuilder html, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(ch);
+            }
+        }
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isIdentifierStart(char ch) {
+        return Character.isLetter(ch) || ch == '_' || ch == '$';
+    }
+
+    private static boolean isIdentifierPart(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '$';
+    }
+
+    private static Set<String> keywords(String words) {
+        return Set.of(words.split(" "));
+    }
+
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        Set<String> merged = new HashSet<>(a);
+        merged.addAll(b);
+        return Set.copyOf(merged);
+    }
+
+    /**
+     * @param quotes 문자열을 여는 문자들
+     * @param ignoreCase true 면 keywords 는 소문자로 비교
+     */
+    private record Syntax(
+            String[] lineComments,
+            String blockStart,
+            String blockEnd,
+            String quotes,
+            Set<String> keywords,
+            boolean ignoreCase
+    ) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.develop.snippet.domain.snippet.repository;
+
+import com.develop.snippet.domain.snippet.domain.SnippetBlob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SnippetBlobRepository extends JpaRepository<SnippetBlob, Long> {
+
+    /**
+     * 기존 blob 참조 수 증가 (행 잠금은 트랜잭션 종료까지 유지되어 GC 와 겹치지 않음)
+     * @return 1 이면 이미 있는 blob, 0 이면 새 blob
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE snippet_blobs SET ref_count = ref_count + 1, updated_at = :now WHERE blob_hash = :hash",
+            nativeQuery = true)
+    int incrementRef(@Param("hash") byte[] hash, @Param("now") LocalDateTime now);
+
+    /**
+     * 새 blob 등록 (동시에 같은 내용이 먼저 등록됐으면 참조 수만 증가)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO snippet_blobs (blob_hash, size_bytes, stored_bytes, ref_count, created_at, updated_at) " +
+            "VALUES (:hash, :sizeBytes, :storedBytes, 1, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now",
+            nativeQuery = true)
+    int insertOrIncrementRef(
+            @Param("hash") byte[] hash,
+            @Param("sizeBytes") long sizeBytes,
+            @Param("storedBytes") long storedBytes,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE snippet_blobs SET ref_count = ref_count - 1, updated_at = :now " +
+            "WHERE blob_hash = :hash AND ref_count > 0",
+            nativeQuery = true)
+    int decrementRef(@Param("hash") byte[] hash, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조 수 조회 + 행 잠금 (행이 없으면 gap lock 으로 같은 해시의 INSERT 를 막음)
+     */
+    @Transactional
+    @Query(value = "SELECT ref_count FROM snippet_blobs WHERE blob_hash = :hash FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockRefCount(@Param("hash") byte[] hash);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM snippet_blobs WHERE blob_hash = :hash AND ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("hash") byte[] hash);
+
+    /**
+     * 참조가 0 이 된 지 threshold 이상 지난 blob 해시 (GC 대상)
+     */
+    @Query("SELECT b.hash FROM SnippetBlob b WHERE b.refCount = 0 AND b.updatedAt < :threshold ORDER BY b.updatedAt")
+    List<byte[]> findUnreferencedHashes(@Param("threshold") LocalDateTime threshold, Limit limit);
+
+    /**
+     * 압축 저장 크기 (raw 응답의 Content-Length, Content-Encoding: deflate 일 때)
+     */
+    @Query("SELECT b.storedBytes FROM SnippetBlob b WHERE b.hash = :hash")
+    Optional<Long> findStoredBytes(@Param("hash") byte[] hash);
+}
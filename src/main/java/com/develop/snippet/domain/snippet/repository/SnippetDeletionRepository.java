@@ -0,0 +1,53 @@
+package com.develop.snippet.domain.snippet.repository;
+
+import com.develop.snippet.domain.snippet.domain.SnippetDeletion;
+import com.develop.snippet.domain.snippet.repository.SnippetRepository.SnippetChangeView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SnippetDeletionRepository extends JpaRepository<SnippetDeletion, Long> {
+
+    /**
+     * 삭제 기록 (스니펫 삭제와 같은 트랜잭션, id 를 지정하므로 merge 의 SELECT 없이 바로 INSERT)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO snippet_deletions (snippet_id, deleted_at) VALUES (:snippetId, :deletedAt)",
+            nativeQuery = true)
+    void insert(@Param("snippetId") Long snippetId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("SELECT MAX(d.deletedAt) FROM SnippetDeletion d")
+    LocalDateTime findMaxDeletedAt();
+
+    /**
+     * (deleted_at, snippet_id) 이후 삭제된 스니펫 (idx_snippet_deletions_deleted_at keyset)
+     */
+    @Query("SELECT d.snippetId AS snippetId, d.deletedAt AS changedAt " +
+            "FROM SnippetDeletion d " +
+            "WHERE d.deletedAt > :since OR (d.deletedAt = :since AND d.snippetId > :lastId) " +
+            "ORDER BY d.deletedAt, d.snippetId")
+    List<SnippetChangeView> findDeletionsSince(
+            @Param("since") LocalDateTime since,
+            @Param("lastId") Long lastId,
+            Limit limit
+    );
+
+    /**
+     * 보관 기간이 지난 기록 chunk 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM snippet_deletions WHERE deleted_at < :threshold ORDER BY deleted_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteOlderThanChunk(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+}
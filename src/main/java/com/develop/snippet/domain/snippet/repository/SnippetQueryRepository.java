@@ -0,0 +1,139 @@
+package com.develop.snippet.domain.snippet.repository;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.search.CodeQuery;
+import com.develop.snippet.domain.snippet.search.CodeSearchBudget;
+import com.develop.snippet.domain.snippet.search.SnippetSearchIndex;
+import com.develop.snippet.domain.snippet.search.SnippetSearchIndex.SearchResult;
+import com.develop.snippet.domain.snippet.search.TrigramIndex;
+import com.develop.snippet.infra.storage.LocalFileStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스니펫 검색 (LIKE 스캔 대신 검색 색인으로 후보를 구하고 DB 에서 id 로 채운다)
+ * - search: Lucene 단어 검색 (순위순)
+ * - searchCode: 트라이그램으로 후보를 좁힌 뒤 본문으로 부분 문자열/정규식 확인 (최신순)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SnippetQueryRepository {
+
+    private static final int VERIFY_BATCH_SIZE = 100;
+
+    private final SnippetSearchIndex searchIndex;
+    private final TrigramIndex trigramIndex;
+    private final SnippetRepository snippetRepository;
+    private final LocalFileStorage localFileStorage;
+
+    public SearchPage search(String query, SnippetLanguage language, Long viewerId, int offset, int limit) {
+        SearchResult result = searchIndex.search(query, language, viewerId, offset, limit);
+        if (result.snippetIds().isEmpty()) {
+            return new SearchPage(List.of(), result.totalHits());
+        }
+
+        Map<Long, Snippet> snippets = snippetRepository.findAllById(result.snippetIds()).stream()
+                .collect(Collectors.toMap(Snippet::getId, Function.identity()));
+
+        // 색인 순위 유지, 색인 반영 전에 삭제/비공개 전환된 스니펫은 제외
+        List<Snippet> ranked = new ArrayList<>(result.snippetIds().size());
+        for (Long snippetId : result.snippetIds()) {
+            Snippet snippet = snippets.get(snippetId);
+            if (snippet != null && snippet.isListedFor(viewerId)) {
+                ranked.add(snippet);
+            }
+        }
+        return new SearchPage(ranked, result.totalHits());
+    }
+
+    /**
+     * 코드 검색 (beforeId 미만 id 를 최신순으로)
+     * 후보는 maxCandidates 개, budget(요청 전체 시간, 읽는 본문 bytes) 안에서만 확인하고,
+     * 다 확인하지 못하면 마지막으로 확인한 id 를 다음 커서로 돌려준다.
+     * 첫 후보는 budget 과 관계없이 확인해 커서가 항상 앞으로 가게 한다.
+     * 다른 노드에서 삭제된 스니펫은 SnippetIndexer.sync 가 삭제 기록으로 후보에서 빼고, 그 전까지는 DB 조회에서 걸러진다.
+     * @param query isNarrowable 인 검색어만
+     */
+    public CodeSearchPage searchCode(
+            CodeQuery query,
+            SnippetLanguage language,
+            Long viewerId,
+            Long beforeId,
+            int size,
+            int maxCandidates,
+            CodeSearchBudget budget
+    ) {
+        long[] candidates = trigramIndex.candidates(query, beforeId);
+        int limit = Math.min(candidates.length, maxCandidates);
+
+        List<Snippet> matched = new ArrayList<>(size);
+        int checked = 0;
+        boolean exhausted = false;
+        while (checked < limit && matched.size() < size && !exhausted) {
+            int end = Math.min(limit, checked + VERIFY_BATCH_SIZE);
+            List<Long> ids = Arrays.stream(candidates, checked, end).boxed().toList();
+            Map<Long, Snippet> snippets = snippetRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Snippet::getId, Function.identity()));
+
+            for (Long snippetId : ids) {
+                Snippet snippet = snippets.get(snippetId);
+                if (snippet == null
+                        || !snippet.isListedFor(viewerId)
+                        || (language != null && snippet.getLanguage() != language)) {
+                    checked++;
+                    continue;
+                }
+                if (checked > 0 && !budget.allows(snippet.getSizeBytes())) {
+                    exhausted = true;
+                    break;
+                }
+                budget.charge(snippet.getSizeBytes());
+
+                boolean matches;
+                try {
+                    matches = query.matches(readContent(snippet), budget);
+                } catch (CodeSearchBudget.ExhaustedException e) {
+                    // 첫 후보는 매치 실패로 넘기고, 이후 후보는 다음 요청에서 다시 확인
+                    exhausted = true;
+                    if (checked > 0) {
+                        break;
+                    }
+                    matches = false;
+                }
+                checked++;
+                if (matches) {
+                    matched.add(snippet);
+                    if (matched.size() == size) {
+                        break;
+                    }
+                }
+                if (exhausted) {
+                    break;
+                }
+            }
+        }
+
+        // 후보가 남아 있으면 마지막으로 확인한 id 부터 이어서
+        Long nextBeforeId = checked < candidates.length && checked > 0 ? candidates[checked - 1] : null;
+        return new CodeSearchPage(matched, nextBeforeId);
+    }
+
+    private String readContent(Snippet snippet) {
+        return new String(localFileStorage.readContent(snippet.getBlobHash()), StandardCharsets.UTF_8);
+    }
+
+    public record CodeSearchPage(List<Snippet> snippets, Long nextBeforeId) {
+    }
+
+    public record SearchPage(List<Snippet> snippets, long totalHits) {
+    }
+}
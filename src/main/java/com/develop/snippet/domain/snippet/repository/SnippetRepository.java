@@ -0,0 +1,100 @@
+package com.develop.snippet.domain.snippet.repository;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SnippetRepository extends JpaRepository<Snippet, Long> {
+
+    /**
+     * 색인 재구성용 id keyset 조회
+     */
+    @Query("SELECT s.id FROM Snippet s WHERE s.id > :lastId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    /**
+     * 변경분 재색인용 id keyset 조회 (since 이후 수정된 스니펫만)
+     */
+    @Query("SELECT s.id FROM Snippet s WHERE s.id > :lastId AND s.updatedAt >= :since ORDER BY s.id")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since, @Param("lastId") Long lastId, Limit limit);
+
+    @Query("SELECT MAX(s.updatedAt) FROM Snippet s")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * (updated_at, snippet_id) 이후 생성/수정된 스니펫 (idx_snippets_updated_at keyset, 다른 노드의 변경을 색인에 반영)
+     */
+    @Query("SELECT s.id AS snippetId, s.updatedAt AS changedAt " +
+            "FROM Snippet s " +
+            "WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :lastId) " +
+            "ORDER BY s.updatedAt, s.id")
+    List<SnippetChangeView> findChangesSince(
+            @Param("since") LocalDateTime since,
+            @Param("lastId") Long lastId,
+            Limit limit
+    );
+
+    /**
+     * 공개 범위별 최신순 keyset 페이지 (idx_snippets_visibility_created)
+     */
+    @Query("SELECT s FROM Snippet s WHERE s.visibility = :visibility " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Snippet> findPageByVisibility(
+            @Param("visibility") SnippetVisibility visibility,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자별 최신순 keyset 페이지 (idx_snippets_user_created)
+     */
+    @Query("SELECT s FROM Snippet s WHERE s.userId = :userId " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Snippet> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자별 + 공개 범위 최신순 keyset 페이지 (다른 사용자의 피드)
+     */
+    @Query("SELECT s FROM Snippet s WHERE s.userId = :userId AND s.visibility = :visibility " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Snippet> findPageByUserIdAndVisibility(
+            @Param("userId") Long userId,
+            @Param("visibility") SnippetVisibility visibility,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    long countByVisibility(SnippetVisibility visibility);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndVisibility(Long userId, SnippetVisibility visibility);
+
+    /**
+     * 변경/삭제 시각 (snippets.updated_at 또는 snippet_deletions.deleted_at)
+     */
+    interface SnippetChangeView {
+        Long getSnippetId();
+        LocalDateTime getChangedAt();
+    }
+}
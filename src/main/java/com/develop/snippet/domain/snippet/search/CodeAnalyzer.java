@@ -0,0 +1,58 @@
+package com.develop.snippet.domain.snippet.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.FlattenGraphFilter;
+import org.apache.lucene.analysis.miscellaneous.WordDelimiterGraphFilter;
+import org.apache.lucene.analysis.miscellaneous.WordDelimiterIterator;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+import static org.apache.lucene.analysis.miscellaneous.WordDelimiterGraphFilter.*;
+
+/**
+ * 코드 식별자용 분석기
+ * getUserId -> getuserid, get, user, id / user_id -> user_id, user, id
+ * (원형을 남겨 전체 식별자 검색과 부분 단어 검색이 모두 맞도록 함)
+ * 색인 시에는 token graph 를 FlattenGraphFilter 로 펼쳐야 한다.
+ */
+public class CodeAnalyzer extends Analyzer {
+
+    private static final int FLAGS = GENERATE_WORD_PARTS
+            | GENERATE_NUMBER_PARTS
+            | SPLIT_ON_CASE_CHANGE
+            | SPLIT_ON_NUMERICS
+            | PRESERVE_ORIGINAL;
+
+    private final boolean indexing;
+
+    private CodeAnalyzer(boolean indexing) {
+        this.indexing = indexing;
+    }
+
+    public static CodeAnalyzer forIndexing() {
+        return new CodeAnalyzer(true);
+    }
+
+    public static CodeAnalyzer forQuery() {
+        return new CodeAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new WordDelimiterGraphFilter(
+                tokenizer, true, WordDelimiterIterator.DEFAULT_WORD_DELIM_TABLE, FLAGS, null);
+        if (indexing) {
+            stream = new FlattenGraphFilter(stream);
+        }
+        stream = new LowerCaseFilter(stream);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(in);
+    }
+}
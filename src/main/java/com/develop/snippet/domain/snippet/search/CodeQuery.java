@@ -0,0 +1,101 @@
+package com.develop.snippet.domain.snippet.search;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 코드 검색어 (부분 문자열 또는 정규식)
+ * 트라이그램 색인으로 후보를 좁힐 트라이그램과 본문 확인 로직을 함께 가진다.
+ */
+public final class CodeQuery {
+
+    private final String literal;
+    private final Pattern pattern;
+    private final long timeoutNanos;
+    private final int[] requiredTrigrams;
+
+    private CodeQuery(String literal, Pattern pattern, long timeoutNanos, int[] requiredTrigrams) {
+        this.literal = literal;
+        this.pattern = pattern;
+        this.timeoutNanos = timeoutNanos;
+        this.requiredTrigrams = requiredTrigrams;
+    }
+
+    public static CodeQuery literal(String text) {
+        return new CodeQuery(text, null, 0, Trigrams.ofLiteral(text));
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException 정규식 문법 오류
+     */
+    public static CodeQuery regex(String regex, long timeoutMs) {
+        return new CodeQuery(null, Pattern.compile(regex), TimeUnit.MILLISECONDS.toNanos(timeoutMs), Trigrams.ofRegex(regex));
+    }
+
+    /**
+     * 트라이그램으로 후보를 좁힐 수 있는지 (false 면 전체 스캔이 필요하므로 거절)
+     */
+    public boolean isNarrowable() {
+        return requiredTrigrams.length > 0;
+    }
+
+    int[] requiredTrigrams() {
+        return requiredTrigrams;
+    }
+
+    /**
+     * 본문 확인 (정규식은 스니펫별 timeout 을 넘기면 매치 실패로 본다)
+     * @throws CodeSearchBudget.ExhaustedException 스니펫별 timeout 보다 요청 deadline 이 먼저 와서 끊김
+     */
+    public boolean matches(String content, CodeSearchBudget budget) {
+        if (pattern == null) {
+            return content.contains(literal);
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        boolean requestBound = budget.deadline() - deadline < 0;
+        try {
+            return pattern.matcher(new DeadlineCharSequence(content, requestBound ? budget.deadline() : deadline)).find();
+        } catch (RegexTimeoutException e) {
+            if (requestBound) {
+                throw new CodeSearchBudget.ExhaustedException();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 읽을 때마다 시간을 확인해 backtracking 이 폭주하는 정규식을 끊는다
+     */
+    private record DeadlineCharSequence(CharSequence delegate, long deadline) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new RegexTimeoutException();
+            }
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(delegate.subSequence(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    private static final class RegexTimeoutException extends RuntimeException {
+
+        RegexTimeoutException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.develop.snippet.domain.snippet.search;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 검색 요청 한 번의 비용 상한 (전체 시간 + 읽어서 푼 본문 bytes)
+ * 요청마다 하나를 만들어 모든 후보 확인에 넘기고, 다 쓰면 남은 후보는 다음 커서로 넘긴다.
+ */
+public final class CodeSearchBudget {
+
+    private final long deadline;
+    private long remainingBytes;
+
+    private CodeSearchBudget(long deadline, long maxBytes) {
+        this.deadline = deadline;
+        this.remainingBytes = maxBytes;
+    }
+
+    public static CodeSearchBudget start(long timeoutMs, long maxBytes) {
+        return new CodeSearchBudget(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs), maxBytes);
+    }
+
+    /**
+     * bytes 만큼 본문을 더 읽어도 되는지 (시간이 남아 있고 bytes 예산 안)
+     */
+    public boolean allows(long bytes) {
+        return !isExpired() && bytes <= remainingBytes;
+    }
+
+    public void charge(long bytes) {
+        remainingBytes -= bytes;
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    long deadline() {
+        return deadline;
+    }
+
+    /**
+     * 요청 시간이 먼저 끝나 본문 확인을 마치지 못함 (해당 후보는 확인하지 않은 것으로 본다)
+     */
+    public static final class ExhaustedException extends RuntimeException {
+
+        ExhaustedException() {
+            super(null, null, false, false);
+        }
+    }
+}
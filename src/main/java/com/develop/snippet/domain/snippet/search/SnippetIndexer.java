@@ -0,0 +1,492 @@
+package com.develop.snippet.domain.snippet.search;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.event.SnippetChangedEvent;
+import com.develop.snippet.domain.snippet.repository.SnippetDeletionRepository;
+import com.develop.snippet.domain.snippet.repository.SnippetRepository;
+import com.develop.snippet.domain.snippet.repository.SnippetRepository.SnippetChangeView;
+import com.develop.snippet.domain.snippet.search.SnippetSearchIndex.SnippetDocument;
+import com.develop.snippet.domain.snippet.service.SnippetBlobService;
+import com.develop.snippet.domain.tag.service.TagService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스니펫 변경을 검색 색인(Lucene, 트라이그램)에 반영
+ * - commit 된 변경만 반영 (AFTER_COMMIT), 요청 스레드를 막지 않도록 단일 스레드에서 순서대로 처리
+ * - 이벤트에는 id 만 담고 색인 시점에 DB 의 현재 상태를 다시 읽는다 (같은 id 가 여러 번 와도 결과는 같음)
+ * - 기동 시 두 색인 모두 저장된 watermark 이후 변경분과 삭제 기록만 다시 반영 (저장 상태가 없는 색인만 전체)
+ * - sync-interval 마다 updated_at / 삭제 기록 변경분을 읽어 같은 executor 로 반영 (다른 노드의 변경, UserStateSync 와 같은 keyset)
+ * - 실패는 스니펫 단위로 기록해 retry-interval 마다 다시 색인 (한 스니펫의 실패가 배치 전체를 버리지 않음)
+ * - commit-interval 마다 트라이그램 저장과 Lucene commit 을 같은 watermark 로 수행
+ */
+@Slf4j
+@Component
+public class SnippetIndexer {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final SnippetSearchIndex searchIndex;
+    private final TrigramIndex trigramIndex;
+    private final SnippetSearchProperties properties;
+    private final SnippetRepository snippetRepository;
+    private final SnippetDeletionRepository snippetDeletionRepository;
+    private final SnippetBlobService snippetBlobService;
+    private final TagService tagService;
+
+    // 같은 스니펫의 색인 순서가 뒤바뀌지 않도록 단일 스레드
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("snippet-indexer").daemon(true).factory());
+
+    // catch-up 의 DB/blob 읽기 전용 (색인 반영만 executor 에 배치 단위로 넘겨 실시간 이벤트가 뒤에 밀리지 않게)
+    private final ExecutorService catchUpExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("snippet-index-catch-up").daemon(true).factory());
+
+    // catch-up 이 끝나기 전까지는 병합하지 않음 (전체 재색인 중 반복 병합 방지, 끝날 때 한 번 병합)
+    private volatile boolean catchingUp = true;
+
+    // catch-up 중 실시간 이벤트로 먼저 반영된 스니펫 (catch-up 이 읽은 상태가 더 오래됐을 수 있으므로 건너뜀, executor 스레드에서만 접근)
+    private final Set<Long> updatedDuringCatchUp = new HashSet<>();
+
+    // 마지막으로 반영한 변경/삭제 시각 (catch-up 시작 시 DB 최댓값으로 정하고 이후 스케줄러 스레드에서만 접근)
+    private LocalDateTime syncedChangesAt = EPOCH;
+    private LocalDateTime syncedDeletionsAt = EPOCH;
+
+    // 이미 반영한 스니펫 id -> 변경/삭제 시각 (overlap 으로 다시 읽혀도 건너뜀, executor 스레드에서만 접근)
+    private final Map<Long, LocalDateTime> indexedChanges = new HashMap<>();
+    private final Map<Long, LocalDateTime> indexedDeletions = new HashMap<>();
+
+    public SnippetIndexer(
+            SnippetSearchIndex searchIndex,
+            TrigramIndex trigramIndex,
+            SnippetSearchProperties properties,
+            SnippetRepository snippetRepository,
+            SnippetDeletionRepository snippetDeletionRepository,
+            SnippetBlobService snippetBlobService,
+            TagService tagService
+    ) {
+        this.searchIndex = searchIndex;
+        this.trigramIndex = trigramIndex;
+        this.properties = properties;
+        this.snippetRepository = snippetRepository;
+        this.snippetDeletionRepository = snippetDeletionRepository;
+        this.snippetBlobService = snippetBlobService;
+        this.tagService = tagService;
+    }
+
+    @TransactionalEventListener
+    public void onSnippetChanged(SnippetChangedEvent event) {
+        executor.execute(() -> {
+            reindex(List.of(event.snippetId()));
+            mergeIfNeeded();
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        catchUpExecutor.execute(() -> {
+            try {
+                catchUpFrom(sinceOf(searchIndex.getIndexedUpTo()), sinceOf(trigramIndex.getLoadedUpTo()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Search index catch-up failed", e);
+            }
+        });
+    }
+
+    /**
+     * 색인에 실패했던 스니펫 재시도
+     */
+    @Scheduled(
+            initialDelayString = "${app.search.retry-interval-ms:60000}",
+            fixedDelayString = "${app.search.retry-interval-ms:60000}"
+    )
+    public void retryFailed() {
+        List<Long> failedIds = searchIndex.getFailedIds();
+        if (failedIds.isEmpty()) {
+            return;
+        }
+        log.info("Retrying failed search index updates - snippets: {}", failedIds.size());
+        executor.execute(() -> {
+            for (int from = 0; from < failedIds.size(); from += properties.getCatchUpBatchSize()) {
+                reindex(failedIds.subList(from, Math.min(from + properties.getCatchUpBatchSize(), failedIds.size())));
+            }
+            mergeIfNeeded();
+        });
+    }
+
+    /**
+     * 다른 노드에서 생성/수정/삭제된 스니펫 반영 (자기 노드의 변경은 이미 반영한 시각이면 건너뜀)
+     */
+    @Scheduled(
+            initialDelayString = "${app.search.sync-interval-ms:10000}",
+            fixedDelayString = "${app.search.sync-interval-ms:10000}"
+    )
+    public void sync() {
+        if (catchingUp) {
+            return;
+        }
+        syncedChangesAt = pull(syncedChangesAt, snippetRepository::findChangesSince, indexedChanges);
+        syncedDeletionsAt = pull(syncedDeletionsAt, snippetDeletionRepository::findDeletionsSince, indexedDeletions);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (여러 노드가 함께 실행해도 결과는 같음)
+     */
+    @Scheduled(cron = "${app.search.deletion-purge-cron:0 40 4 * * *}")
+    public void purgeDeletions() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(properties.getDeletionRetentionDays());
+        int purged = 0;
+        try {
+            int deleted;
+            do {
+                deleted = snippetDeletionRepository.deleteOlderThanChunk(threshold, PURGE_CHUNK_SIZE);
+                purged += deleted;
+            } while (deleted == PURGE_CHUNK_SIZE);
+        } catch (Exception e) {
+            log.warn("Snippet deletion purge failed: {}", e.getMessage());
+        }
+        if (purged > 0) {
+            log.info("Snippet deletion records purged: {}", purged);
+        }
+    }
+
+    /**
+     * 트라이그램 저장 + Lucene commit (같은 watermark)
+     * 트라이그램은 Lucene 보다 먼저 반영되므로, 먼저 구한 watermark 까지의 변경은 저장 시점에 모두 들어 있다.
+     */
+    @Scheduled(
+            initialDelayString = "${app.search.commit-interval-ms:30000}",
+            fixedDelayString = "${app.search.commit-interval-ms:30000}"
+    )
+    public void commit() {
+        LocalDateTime upTo = searchIndex.committableUpTo();
+        trigramIndex.persist(upTo);
+        searchIndex.commit(upTo);
+    }
+
+    /**
+     * 저장된 watermark -> 재색인 시작 시각 (commit 직전에 색인된 변경이나 시계 오차를 고려해 overlap 만큼 앞에서부터)
+     */
+    private LocalDateTime sinceOf(LocalDateTime upTo) {
+        return upTo != null ? upTo.minusSeconds(properties.getCatchUpOverlapSeconds()) : null;
+    }
+
+    /**
+     * 둘 중 하나라도 전체 재색인이면 전체 스니펫을, 아니면 더 이른 시각 이후 변경분만 id 순으로 읽는다.
+     * DB/blob 읽기와 트라이그램 계산은 이 스레드에서, 색인 반영은 배치마다 executor 에서 한다.
+     * 중지 중에 삭제된 스니펫은 삭제 기록으로 지우고, 기록 보관 기간보다 오래 중지됐으면 비우고 전체 재색인한다.
+     * @param luceneSince null 이면 Lucene 전체 재색인
+     * @param trigramSince null 이면 트라이그램 전체 재색인
+     */
+    private void catchUpFrom(LocalDateTime luceneSince, LocalDateTime trigramSince)
+            throws InterruptedException, ExecutionException {
+        LocalDateTime retainedSince = LocalDateTime.now().minusDays(properties.getDeletionRetentionDays());
+        if (luceneSince != null && luceneSince.isBefore(retainedSince)) {
+            log.warn("Search index is older than deletion retention, rebuilding - since: {}", luceneSince);
+            luceneSince = null;
+        }
+        if (trigramSince != null && trigramSince.isBefore(retainedSince)) {
+            log.warn("Trigram index is older than deletion retention, rebuilding - since: {}", trigramSince);
+            trigramSince = null;
+        }
+        LocalDateTime since = luceneSince == null || trigramSince == null
+                ? null
+                : (luceneSince.isBefore(trigramSince) ? luceneSince : trigramSince);
+        // 삭제 기록은 전체 재색인이 아닌 색인 쪽의 시각부터 (둘 다 전체면 읽지 않음)
+        LocalDateTime deletedSince = since != null ? since : (luceneSince != null ? luceneSince : trigramSince);
+        log.info("Search index catching up - lucene since: {}, trigram since: {}", luceneSince, trigramSince);
+        searchIndex.holdAt(since);
+
+        // 이후 변경은 sync 가 이어서 반영 (catch-up 과 겹치는 부분은 overlap 으로 다시 읽어도 결과가 같음)
+        syncedChangesAt = orEpoch(snippetRepository.findMaxUpdatedAt());
+        syncedDeletionsAt = orEpoch(snippetDeletionRepository.findMaxDeletedAt());
+
+        if (luceneSince == null || trigramSince == null) {
+            // 저장 상태 없이 남아 있던 항목 중 이미 삭제된 스니펫이 있을 수 있으므로 전체 재색인하는 색인은 비우고 시작
+            boolean clearLucene = luceneSince == null;
+            boolean clearTrigram = trigramSince == null;
+            executor.submit(() -> {
+                if (clearLucene) {
+                    searchIndex.deleteAll();
+                }
+                if (clearTrigram) {
+                    trigramIndex.clear();
+                }
+                updatedDuringCatchUp.clear();
+            }).get();
+        }
+
+        Limit limit = Limit.of(properties.getCatchUpBatchSize());
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            List<Long> ids = since == null
+                    ? snippetRepository.findIdsAfter(lastId, limit)
+                    : snippetRepository.findIdsUpdatedSince(since, lastId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<IndexEntry> entries = read(ids, luceneSince, trigramSince);
+            // 배치마다 반영을 기다려 읽기가 반영보다 앞서 나가지 않게
+            executor.submit(() -> apply(entries, true)).get();
+            count += ids.size();
+            lastId = ids.getLast();
+        }
+
+        if (deletedSince != null) {
+            lastId = 0L;
+            while (true) {
+                List<SnippetChangeView> deletions = snippetDeletionRepository.findDeletionsSince(deletedSince, lastId, limit);
+                if (deletions.isEmpty()) {
+                    break;
+                }
+                List<IndexEntry> entries = deletions.stream()
+                        .map(deletion -> IndexEntry.deleted(deletion.getSnippetId()))
+                        .toList();
+                executor.submit(() -> apply(entries, true)).get();
+                count += deletions.size();
+                SnippetChangeView last = deletions.getLast();
+                deletedSince = last.getChangedAt();
+                lastId = last.getSnippetId();
+            }
+        }
+
+        LocalDateTime caughtUpLuceneSince = luceneSince;
+        LocalDateTime caughtUpTrigramSince = trigramSince;
+        int caughtUp = count;
+        executor.submit(() -> {
+            catchingUp = false;
+            updatedDuringCatchUp.clear();
+            trigramIndex.markReady();
+            searchIndex.releaseHold();
+            commit();
+            log.info("Search index caught up - lucene since: {}, trigram since: {}, snippets: {}",
+                    caughtUpLuceneSince, caughtUpTrigramSince, caughtUp);
+        }).get();
+    }
+
+    /**
+     * cursor - overlap 이후 변경분을 batch 단위로 executor 에 넘겨 반영
+     * @param indexed 이미 반영한 스니펫 (같은 시각이면 건너뜀, overlap 밖으로 밀려난 항목은 정리)
+     * @return 새 cursor (읽은 변경 시각의 최댓값, 실패하면 그때까지 반영한 위치)
+     */
+    private LocalDateTime pull(LocalDateTime cursor, ChangeQuery query, Map<Long, LocalDateTime> indexed) {
+        LocalDateTime since = cursor.minusSeconds(properties.getSyncOverlapSeconds());
+        LocalDateTime pruneBefore = since;
+        int batchSize = properties.getCatchUpBatchSize();
+        long lastId = 0L;
+
+        try {
+            while (true) {
+                List<SnippetChangeView> changes = query.find(since, lastId, Limit.of(batchSize));
+                if (changes.isEmpty()) {
+                    break;
+                }
+                executor.submit(() -> reindexChanges(changes, indexed)).get();
+
+                SnippetChangeView last = changes.getLast();
+                since = last.getChangedAt();
+                lastId = last.getSnippetId();
+                if (since.isAfter(cursor)) {
+                    cursor = since;
+                }
+                if (changes.size() < batchSize) {
+                    break;
+                }
+            }
+            executor.execute(() -> indexed.values().removeIf(changedAt -> changedAt.isBefore(pruneBefore)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 다음 주기에 같은 위치부터 다시 시도
+            log.warn("Search index sync failed: {}", e.getMessage());
+        }
+        return cursor;
+    }
+
+    /**
+     * sync 로 읽은 변경 반영 (executor 스레드, 삭제도 DB 에 없으면 삭제 항목이 되므로 같은 reindex 로 처리)
+     */
+    private void reindexChanges(List<SnippetChangeView> changes, Map<Long, LocalDateTime> indexed) {
+        List<Long> snippetIds = changes.stream()
+                .filter(change -> !change.getChangedAt().equals(indexed.get(change.getSnippetId())))
+                .map(SnippetChangeView::getSnippetId)
+                .toList();
+        if (snippetIds.isEmpty()) {
+            return;
+        }
+        reindex(snippetIds);
+        changes.forEach(change -> indexed.put(change.getSnippetId(), change.getChangedAt()));
+        mergeIfNeeded();
+    }
+
+    /**
+     * 실시간 이벤트/재시도/sync (executor 스레드, DB 의 현재 상태로 두 색인 모두 반영)
+     */
+    private void reindex(List<Long> snippetIds) {
+        if (catchingUp) {
+            updatedDuringCatchUp.addAll(snippetIds);
+        }
+        apply(read(snippetIds, null, null), false);
+    }
+
+    /**
+     * DB/blob 을 읽어 색인에 넣을 항목을 만든다 (DB 에 없으면 삭제 항목)
+     * 두 색인 모두 건너뛰는 스니펫은 blob 을 읽지 않는다.
+     * @param luceneSince 이 시각 이전에 변경된 스니펫은 Lucene 색인을 건너뜀 (null 이면 모두 색인)
+     * @param trigramSince 이 시각 이전에 변경된 스니펫은 트라이그램 색인을 건너뜀 (null 이면 모두 색인)
+     */
+    private List<IndexEntry> read(List<Long> snippetIds, LocalDateTime luceneSince, LocalDateTime trigramSince) {
+        List<Snippet> snippets;
+        Map<Long, List<String>> tagNames;
+        try {
+            snippets = snippetRepository.findAllById(snippetIds);
+            tagNames = tagService.getTagNames(snippetIds);
+        } catch (Exception e) {
+            log.warn("Search reindex failed - snippetIds: {}, {}", snippetIds, e.getMessage());
+            snippetIds.forEach(snippetId -> searchIndex.markFailed(snippetId, null));
+            return List.of();
+        }
+
+        List<IndexEntry> entries = new ArrayList<>(snippetIds.size());
+        Set<Long> found = new HashSet<>();
+        for (Snippet snippet : snippets) {
+            found.add(snippet.getId());
+            boolean lucene = luceneSince == null || !snippet.getUpdatedAt().isBefore(luceneSince);
+            boolean trigram = trigramSince == null || !snippet.getUpdatedAt().isBefore(trigramSince);
+            if (!lucene && !trigram) {
+                continue;
+            }
+            try {
+                byte[] content = snippetBlobService.read(snippet.getBlobHash());
+                List<String> tags = tagNames.getOrDefault(snippet.getId(), List.of());
+                entries.add(new IndexEntry(
+                        snippet.getId(),
+                        snippet.getUpdatedAt(),
+                        trigram ? Trigrams.of(content) : null,
+                        lucene ? toDocument(snippet, tags, content) : null
+                ));
+            } catch (Exception e) {
+                log.warn("Snippet index failed - snippetId: {}, {}", snippet.getId(), e.getMessage());
+                searchIndex.markFailed(snippet.getId(), snippet.getUpdatedAt());
+            }
+        }
+        for (Long snippetId : snippetIds) {
+            if (!found.contains(snippetId)) {
+                entries.add(IndexEntry.deleted(snippetId));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 색인 반영 (executor 스레드)
+     * @param catchUp catch-up 배치면 그 사이 실시간 이벤트로 반영된 스니펫은 건너뜀
+     */
+    private void apply(List<IndexEntry> entries, boolean catchUp) {
+        for (IndexEntry entry : entries) {
+            if (catchUp && updatedDuringCatchUp.contains(entry.snippetId())) {
+                continue;
+            }
+            try {
+                if (entry.isDeleted()) {
+                    searchIndex.delete(entry.snippetId());
+                    trigramIndex.remove(entry.snippetId());
+                } else {
+                    // 트라이그램 먼저 (commit 이 구한 watermark 까지는 트라이그램에 반드시 들어 있도록)
+                    if (entry.trigrams() != null) {
+                        trigramIndex.put(entry.snippetId(), entry.trigrams());
+                    }
+                    if (entry.document() != null) {
+                        searchIndex.upsert(entry.document());
+                    }
+                    if (!catchUp) {
+                        indexedChanges.put(entry.snippetId(), entry.updatedAt());
+                    }
+                }
+                searchIndex.clearFailed(entry.snippetId());
+            } catch (Exception e) {
+                log.warn("Snippet index failed - snippetId: {}, {}", entry.snippetId(), e.getMessage());
+                searchIndex.markFailed(entry.snippetId(), entry.updatedAt());
+            }
+        }
+    }
+
+    private static LocalDateTime orEpoch(LocalDateTime changedAt) {
+        return changedAt != null ? changedAt : EPOCH;
+    }
+
+    private void mergeIfNeeded() {
+        if (!catchingUp) {
+            trigramIndex.mergeIfNeeded();
+        }
+    }
+
+    private SnippetDocument toDocument(Snippet snippet, List<String> tags, byte[] contentBytes) {
+        String content = new String(contentBytes, StandardCharsets.UTF_8);
+        return new SnippetDocument(
+                snippet.getId(),
+                snippet.getUserId(),
+                snippet.getTitle(),
+                snippet.getDescription(),
+                tags,
+                content,
+                snippet.getLanguage(),
+                snippet.getVisibility(),
+                snippet.getUpdatedAt()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        catchUpExecutor.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        // catch-up 이 끝나지 않았으면 hold 가 남아 있어 시작 시각이 저장된다
+        commit();
+    }
+
+    @FunctionalInterface
+    private interface ChangeQuery {
+        List<SnippetChangeView> find(LocalDateTime since, Long lastId, Limit limit);
+    }
+
+    /**
+     * 색인에 넣을 스니펫 하나 (trigrams/document 가 null 이면 해당 색인은 건너뜀, 둘 다 null 이면 삭제)
+     * @param updatedAt 삭제 항목은 null
+     */
+    private record IndexEntry(Long snippetId, LocalDateTime updatedAt, int[] trigrams, SnippetDocument document) {
+
+        static IndexEntry deleted(Long snippetId) {
+            return new IndexEntry(snippetId, null, null, null);
+        }
+
+        boolean isDeleted() {
+            return trigrams == null && document == null;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.develop.snippet.domain.snippet.search;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스니펫 전문 검색 색인 (Lucene, 로컬 디스크)
+ * - 필드: title, description, tags, code (CodeAnalyzer), language/visibility/user (필터)
+ * - 순위: BM25, 필드 가중치 title > tags > description > code
+ * - 변경은 IndexWriter 에 바로 반영하고 refresh-interval 마다 검색에 노출, commit 은 SnippetIndexer 가 트라이그램 저장과 함께 호출
+ * commit 시 색인된 마지막 updated_at 을 함께 저장해 재시작 시 그 이후 변경분만 다시 색인한다.
+ * 색인에 실패한 스니펫이 있거나 catch-up 중이면 저장하는 시각을 가장 오래된 실패의 updated_at / catch-up 시작 시각 이하로 유지해
+ * 끝나기 전에 재시작해도 다시 색인되게 한다.
+ */
+@Slf4j
+@Component
+public class SnippetSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_TAGS = "tags";
+    static final String FIELD_CODE = "code";
+    static final String FIELD_LANGUAGE = "language";
+    static final String FIELD_VISIBILITY = "visibility";
+    static final String FIELD_USER = "user";
+
+    private static final String COMMIT_INDEXED_UP_TO = "indexedUpTo";
+
+    // 실패한 스니펫의 updated_at 을 알 수 없음 (DB 조회 실패, 삭제 실패)
+    private static final LocalDateTime UNKNOWN = LocalDateTime.MIN;
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            FIELD_TITLE, 4.0f,
+            FIELD_TAGS, 3.0f,
+            FIELD_DESCRIPTION, 2.0f,
+            FIELD_CODE, 1.0f
+    );
+
+    private final SnippetSearchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CodeAnalyzer queryAnalyzer = CodeAnalyzer.forQuery();
+
+    // 색인에 반영된 스니펫 updated_at 최댓값 (commit 데이터로 저장)
+    private final AtomicReference<LocalDateTime> indexedUpTo = new AtomicReference<>();
+
+    // 색인 실패한 스니펫 id -> updated_at (SnippetIndexer 가 재시도, 성공하면 제거)
+    private final Map<Long, LocalDateTime> failures = new ConcurrentHashMap<>();
+
+    // catch-up 중 저장할 시각 상한 (id 순으로 읽으므로 도중의 updated_at 최댓값은 watermark 가 될 수 없음)
+    private volatile LocalDateTime hold;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private Timer searchTimer;
+
+    public SnippetSearchIndex(SnippetSearchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path path = Paths.get(properties.getIndexDir()).toAbsolutePath().normalize();
+        directory = FSDirectory.open(path);
+
+        IndexWriterConfig config = new IndexWriterConfig(CodeAnalyzer.forIndexing());
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        String upTo = commitData.get(COMMIT_INDEXED_UP_TO);
+        if (upTo != null) {
+            indexedUpTo.set(LocalDateTime.parse(upTo));
+        }
+
+        searchTimer = Timer.builder("search.query")
+                .description("스니펫 전문 검색 시간")
+                .register(meterRegistry);
+        Gauge.builder("search.index.docs", writer, w -> w.getDocStats().numDocs)
+                .description("검색 색인 문서 수")
+                .register(meterRegistry);
+        Gauge.builder("search.index.failed", failures, Map::size)
+                .description("색인 실패 후 재시도 대기 중인 스니펫 수")
+                .register(meterRegistry);
+
+        log.info("Snippet search index opened: {} (docs: {}, indexed up to: {})",
+                path, writer.getDocStats().numDocs, upTo);
+    }
+
+    /**
+     * 마지막 commit 까지 색인된 updated_at (null 이면 전체 재색인 필요)
+     */
+    public LocalDateTime getIndexedUpTo() {
+        return indexedUpTo.get();
+    }
+
+    public void upsert(SnippetDocument snippet) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, snippet.snippetId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, snippet.title(), Field.Store.NO));
+        if (snippet.description() != null) {
+            document.add(new TextField(FIELD_DESCRIPTION, snippet.description(), Field.Store.NO));
+        }
+        document.add(new TextField(FIELD_TAGS, String.join(" ", snippet.tags()), Field.Store.NO));
+        document.add(new TextField(FIELD_CODE, snippet.content(), Field.Store.NO));
+        document.add(new StringField(FIELD_LANGUAGE, snippet.language().name(), Field.Store.NO));
+        document.add(new StringField(FIELD_VISIBILITY, snippet.visibility().name(), Field.Store.NO));
+        document.add(new StringField(FIELD_USER, snippet.userId().toString(), Field.Store.NO));
+
+        try {
+            writer.updateDocument(idTerm(snippet.snippetId()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 실패: " + snippet.snippetId(), e);
+        }
+        indexedUpTo.accumulateAndGet(snippet.updatedAt(),
+                (current, updated) -> current == null || updated.isAfter(current) ? updated : current);
+    }
+
+    /**
+     * 색인 실패 기록 (재시도 대상, 성공할 때까지 commit watermark 를 updatedAt 이하로 유지)
+     * @param updatedAt 모르면 null (재시작 시 전체 재색인)
+     */
+    public void markFailed(Long snippetId, LocalDateTime updatedAt) {
+        LocalDateTime failedAt = updatedAt != null ? updatedAt : UNKNOWN;
+        failures.merge(snippetId, failedAt, (current, next) -> next.isBefore(current) ? next : current);
+    }
+
+    public void clearFailed(Long snippetId) {
+        failures.remove(snippetId);
+    }
+
+    /**
+     * releaseHold 전까지 commit 에 저장하는 시각을 since 이하로 유지
+     * @param since null 이면 시각을 저장하지 않음 (전체 재색인 중)
+     */
+    void holdAt(LocalDateTime since) {
+        hold = since != null ? since : UNKNOWN;
+    }
+
+    void releaseHold() {
+        hold = null;
+    }
+
+    public List<Long> getFailedIds() {
+        return List.copyOf(failures.keySet());
+    }
+
+    public void delete(Long snippetId) {
+        try {
+            writer.deleteDocuments(idTerm(snippetId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 삭제 실패: " + snippetId, e);
+        }
+    }
+
+    /**
+     * 전체 재색인 전에 기존 문서 제거 (DB 에서 사라진 스니펫이 남지 않도록)
+     */
+    void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 초기화 실패", e);
+        }
+        indexedUpTo.set(null);
+    }
+
+    /**
+     * 전문 검색 (순위순 스니펫 id)
+     * 비로그인은 PUBLIC 만, 로그인 사용자는 PUBLIC + 본인 스니펫
+     */
+    public SearchResult search(String queryText, SnippetLanguage language, Long viewerId, int offset, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(queryAnalyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText);
+
+        BooleanQuery.Builder visibility = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_VISIBILITY, SnippetVisibility.PUBLIC.name())), BooleanClause.Occur.SHOULD);
+        if (viewerId != null) {
+            visibility.add(new TermQuery(new Term(FIELD_USER, viewerId.toString())), BooleanClause.Occur.SHOULD);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(visibility.build(), BooleanClause.Occur.FILTER);
+        if (language != null) {
+            query.add(new TermQuery(new Term(FIELD_LANGUAGE, language.name())), BooleanClause.Occur.FILTER);
+        }
+
+        return searchTimer.record(() -> execute(query.build(), offset, limit));
+    }
+
+    private SearchResult execute(Query query, int offset, int limit) {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, offset + limit);
+
+            List<Long> ids = new ArrayList<>(limit);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                String id = searcher.storedFields().document(scoreDocs[i].doc).get(FIELD_ID);
+                ids.add(Long.valueOf(id));
+            }
+            return new SearchResult(ids, topDocs.totalHits.value());
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 변경분을 검색에 노출 (변경이 없으면 비용 없음)
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public void commit() {
+        commit(committableUpTo());
+    }
+
+    /**
+     * segment 를 디스크에 확정 (변경이 있을 때만)
+     * @param upTo committableUpTo 로 구한 시각 (트라이그램 저장과 같은 값)
+     */
+    public void commit(LocalDateTime upTo) {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            // 시각을 저장하지 않으면 (실패 시각을 모름) 재시작 시 전체 재색인
+            writer.setLiveCommitData(upTo != null
+                    ? Map.of(COMMIT_INDEXED_UP_TO, upTo.toString()).entrySet()
+                    : Map.<String, String>of().entrySet());
+            writer.commit();
+            log.debug("Search index committed (docs: {}, up to: {})", writer.getDocStats().numDocs, upTo);
+        } catch (IOException e) {
+            log.warn("Search index commit failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * commit 에 저장할 시각 = min(색인된 최신 updated_at, 가장 오래된 실패의 updated_at, catch-up 시작 시각)
+     * @return null 이면 저장하지 않음 (재시작 시 전체 재색인)
+     */
+    public LocalDateTime committableUpTo() {
+        LocalDateTime upTo = indexedUpTo.get();
+        LocalDateTime currentHold = hold;
+        if (currentHold == UNKNOWN) {
+            return null;
+        }
+        if (currentHold != null && upTo != null && currentHold.isBefore(upTo)) {
+            upTo = currentHold;
+        }
+        for (LocalDateTime failedAt : failures.values()) {
+            if (failedAt == UNKNOWN) {
+                return null;
+            }
+            if (upTo != null && failedAt.isBefore(upTo)) {
+                upTo = failedAt;
+            }
+        }
+        return upTo;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Searcher release failed: {}", e.getMessage());
+        }
+    }
+
+    private static Term idTerm(Long snippetId) {
+        return new Term(FIELD_ID, snippetId.toString());
+    }
+
+    public record SnippetDocument(
+            Long snippetId,
+            Long userId,
+            String title,
+            String description,
+            List<String> tags,
+            String content,
+            SnippetLanguage language,
+            SnippetVisibility visibility,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    public record SearchResult(List<Long> snippetIds, long totalHits) {
+    }
+}
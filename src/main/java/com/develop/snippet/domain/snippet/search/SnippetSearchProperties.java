@@ -0,0 +1,32 @@
+package com.develop.snippet.domain.snippet.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.search")
+public class SnippetSearchProperties {
+
+    private String indexDir = "./data/index";        // Lucene segment 디렉터리
+    private Long refreshIntervalMs = 1000L;         // 변경이 검색에 보이기까지 최대 지연
+    private Long commitIntervalMs = 30_000L;        // segment 를 디스크에 확정하는 주기
+    private Long catchUpOverlapSeconds = 300L;      // 재시작 시 마지막 commit 이전부터 다시 색인할 범위
+    private Integer catchUpBatchSize = 200;
+    private Long retryIntervalMs = 60_000L;         // 색인 실패 스니펫 재시도 주기
+    private Long syncIntervalMs = 10_000L;          // 다른 노드의 변경/삭제를 DB 에서 읽어 반영하는 주기
+    private Long syncOverlapSeconds = 30L;          // 늦게 커밋된 트랜잭션을 놓치지 않도록 매번 다시 읽는 범위
+    private Integer deletionRetentionDays = 30;     // 삭제 기록 보관 기간 (이보다 오래 중지된 노드는 전체 재색인)
+    private String deletionPurgeCron = "0 40 4 * * *";
+    private Integer maxResultWindow = 1000;         // (page + 1) * size 상한
+
+    // 코드 검색 (트라이그램)
+    private Long trigramMergeThresholdBytes = 16L * 1024 * 1024; // pending 트라이그램이 이만큼 쌓이면 압축 posting 에 병합
+    private Integer codeSearchMaxCandidates = 2000; // 요청 한 번에 본문을 확인할 최대 후보 수
+    private Long regexTimeoutMs = 200L;             // 스니펫 하나에 대한 정규식 매치 시간 상한
+    private Long codeSearchTimeoutMs = 2000L;       // 요청 한 번의 후보 확인 시간 상한 (넘으면 다음 커서로)
+    private Long codeSearchMaxBytes = 32L * 1024 * 1024; // 요청 한 번에 읽어서 풀 본문 bytes 상한
+}
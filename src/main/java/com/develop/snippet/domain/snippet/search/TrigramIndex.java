@@ -0,0 +1,500 @@
+package com.develop.snippet.domain.snippet.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 코드 부분 문자열/정규식 검색용 트라이그램 색인 (메모리)
+ * - base: 압축 posting (TrigramPostings, 불변)
+ * - pending: base 이후 추가/수정된 스니펫의 트라이그램, removed: base 의 posting 이 무효인 스니펫
+ * pending 이 merge-threshold-bytes 를 넘으면 base 에 병합한다.
+ * 후보만 좁히므로 결과는 반드시 본문으로 다시 확인해야 한다.
+ * 변경은 SnippetIndexer 스레드 하나에서만 호출한다 (다른 노드의 변경/삭제도 SnippetIndexer.sync 가 같은 스레드로 반영).
+ * {index-dir}/trigram 에 Lucene commit 과 같은 watermark 로 저장해 두고 기동 시 읽어 변경분만 다시 색인한다.
+ * - base-{generation}.bin: base (병합으로 바뀌었을 때만 새로 씀)
+ * - state.bin: watermark, base generation, pending, removed
+ */
+@Slf4j
+@Component
+public class TrigramIndex {
+
+    private static final String DIRECTORY = "trigram";
+    private static final String STATE_FILE = "state.bin";
+    private static final String BASE_PREFIX = "base-";
+    private static final String BASE_SUFFIX = ".bin";
+    private static final int FORMAT_VERSION = 1;
+
+    // pending/removed 항목당 map/set 노드 등 대략적인 고정 비용
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final SnippetSearchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile TrigramPostings base = TrigramPostings.EMPTY;
+    private Map<Long, int[]> pending = new HashMap<>();
+    private Set<Long> removed = new HashSet<>();
+    private long pendingTrigrams;
+
+    // base 가 바뀔 때마다 증가, changes 는 put/remove 마다 증가 (저장할 변경이 있는지 판단)
+    private long generation;
+    private long changes;
+
+    // persist 가 겹치지 않도록 (파일 쓰기 동안 잡으므로 virtual thread 를 고정하지 않는 ReentrantLock)
+    private final ReentrantLock persistLock = new ReentrantLock();
+
+    // 마지막으로 저장한 상태 (기동 시 load 이후에는 persistLock 안에서만 접근)
+    private long persistedGeneration = -1;
+    private long persistedChanges = -1;
+    private LocalDateTime persistedUpTo;
+
+    // 기동 시 읽은 저장 상태의 watermark (null 이면 전체 재색인 필요)
+    private LocalDateTime loadedUpTo;
+
+    // 기동 후 전체 스니펫을 한 번 읽기 전까지는 결과가 불완전
+    private volatile boolean ready;
+
+    public TrigramIndex(SnippetSearchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        loadedUpTo = load();
+
+        Gauge.builder("search.trigram.bytes", this, index -> index.base.sizeInBytes())
+                .description("트라이그램 posting 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("search.trigram.pending", this, TrigramIndex::pendingCount)
+                .description("병합 대기 중인 스니펫 수")
+                .register(meterRegistry);
+        Gauge.builder("search.trigram.pending.bytes", this, TrigramIndex::pendingBytes)
+                .description("병합 대기 중인 트라이그램 크기 (추정)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 읽은 저장 상태의 watermark (null 이면 저장 상태가 없어 전체 재색인 필요)
+     */
+    LocalDateTime getLoadedUpTo() {
+        return loadedUpTo;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        merge();
+        ready = true;
+    }
+
+    public void put(Long snippetId, byte[] content) {
+        put(snippetId, Trigrams.of(content));
+    }
+
+    /**
+     * @param trigrams Trigrams.of 결과 (catch-up 은 읽는 스레드에서 미리 계산)
+     */
+    void put(Long snippetId, int[] trigrams) {
+        if (snippetId > TrigramPostings.MAX_ID) {
+            throw new IllegalArgumentException("snippetId out of range: " + snippetId);
+        }
+        lock.writeLock().lock();
+        try {
+            int[] previous = pending.put(snippetId, trigrams);
+            pendingTrigrams += trigrams.length - (previous != null ? previous.length : 0);
+            removed.add(snippetId);
+            changes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long snippetId) {
+        lock.writeLock().lock();
+        try {
+            int[] previous = pending.remove(snippetId);
+            if (previous != null) {
+                pendingTrigrams -= previous.length;
+            }
+            removed.add(snippetId);
+            changes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * pending 크기가 merge-threshold-bytes 이상이면 병합 (병합 비용은 base 크기에 비례하므로 스니펫 수가 아닌 bytes 기준)
+     */
+    public void mergeIfNeeded() {
+        if (pendingBytes() >= properties.getTrigramMergeThresholdBytes()) {
+            merge();
+        }
+    }
+
+    /**
+     * 전체 재색인 전에 비움 (저장 상태가 삭제 기록 보관 기간보다 오래돼 삭제를 맞출 수 없을 때)
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            base = TrigramPostings.EMPTY;
+            pending = new HashMap<>();
+            removed = new HashSet<>();
+            pendingTrigrams = 0;
+            generation++;
+            changes++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * pending/removed 를 base 에 병합
+     * 쓰기는 호출 스레드뿐이므로 병합 중에는 잠금 없이 읽고, 교체할 때만 write lock
+     */
+    public void merge() {
+        if (pending.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        TrigramPostings merged = TrigramPostings.merge(base, removed, pending);
+
+        lock.writeLock().lock();
+        try {
+            base = merged;
+            pending = new HashMap<>();
+            removed = new HashSet<>();
+            pendingTrigrams = 0;
+            generation++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Trigram index merged - trigrams: {}, bytes: {}, took: {}ms",
+                merged.trigramCount(), merged.sizeInBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 검색어의 트라이그램을 모두 포함하는 스니펫 id (내림차순, 최신 먼저)
+     * @param query 좁힐 수 없는 검색어(isNarrowable == false)는 호출 전에 거절
+     * @param beforeId 이 id 미만만 (null 이면 전체)
+     */
+    public long[] candidates(CodeQuery query, Long beforeId) {
+        int[] required = query.requiredTrigrams();
+        if (required.length == 0) {
+            throw new IllegalArgumentException("query is not narrowable");
+        }
+
+        lock.readLock().lock();
+        try {
+            TrigramPostings current = base;
+            long[] matched = intersect(current, required);
+
+            long upper = beforeId != null ? beforeId : Long.MAX_VALUE;
+            long[] result = new long[matched.length + pending.size()];
+            int size = 0;
+            for (long id : matched) {
+                if (id < upper && !removed.contains(id)) {
+                    result[size++] = id;
+                }
+            }
+            for (Map.Entry<Long, int[]> entry : pending.entrySet()) {
+                long id = entry.getKey();
+                if (id < upper && Trigrams.containsAll(entry.getValue(), required)) {
+                    result[size++] = id;
+                }
+            }
+
+            long[] sorted = Arrays.copyOf(result, size);
+            Arrays.sort(sorted);
+            reverse(sorted);
+            return sorted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 {index-dir}/trigram 에 저장 (임시 파일 -> rename)
+     * Lucene commit 과 같은 watermark 를 넘겨야 하며, 이 시각까지의 변경이 모두 반영된 상태여야 한다.
+     * @param upTo null 이면 저장 상태를 지워 다음 기동 시 전체 재색인
+     */
+    public void persist(LocalDateTime upTo) {
+        Path dir = directory();
+        persistLock.lock();
+        try {
+            if (upTo == null) {
+                Files.deleteIfExists(dir.resolve(STATE_FILE));
+                persistedChanges = -1;
+                persistedUpTo = null;
+                return;
+            }
+
+            TrigramPostings snapshotBase;
+            long snapshotGeneration;
+            long snapshotChanges;
+            Map<Long, int[]> snapshotPending;
+            Set<Long> snapshotRemoved;
+            lock.readLock().lock();
+            try {
+                if (changes == persistedChanges && generation == persistedGeneration && upTo.equals(persistedUpTo)) {
+                    return;
+                }
+                snapshotBase = base;
+                snapshotGeneration = generation;
+                snapshotChanges = changes;
+                snapshotPending = new HashMap<>(pending);
+                snapshotRemoved = new HashSet<>(removed);
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Files.createDirectories(dir);
+            if (snapshotGeneration != persistedGeneration) {
+                writeChecked(dir.resolve(baseFileName(snapshotGeneration)), snapshotBase::writeTo);
+            }
+            writeChecked(dir.resolve(STATE_FILE), out -> {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(upTo.toString());
+                out.writeLong(snapshotGeneration);
+                out.writeInt(snapshotPending.size());
+                for (Map.Entry<Long, int[]> entry : snapshotPending.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    for (int trigram : entry.getValue()) {
+                        out.writeInt(trigram);
+                    }
+                }
+                out.writeInt(snapshotRemoved.size());
+                for (Long snippetId : snapshotRemoved) {
+                    out.writeLong(snippetId);
+                }
+            });
+            persistedGeneration = snapshotGeneration;
+            persistedChanges = snapshotChanges;
+            persistedUpTo = upTo;
+            deleteStaleBases(dir, snapshotGeneration);
+            log.debug("Trigram index persisted - up to: {}, generation: {}, pending: {}",
+                    upTo, snapshotGeneration, snapshotPending.size());
+        } catch (IOException e) {
+            log.warn("Trigram index persist failed: {}", e.getMessage());
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 상태 복원
+     * @return 저장된 watermark, 없거나 읽을 수 없으면 null
+     */
+    private LocalDateTime load() {
+        Path dir = directory();
+        try {
+            LoadedState state = readChecked(dir.resolve(STATE_FILE), in -> {
+                if (in.readInt() != FORMAT_VERSION) {
+                    throw new IOException("unsupported format");
+                }
+                LocalDateTime upTo = LocalDateTime.parse(in.readUTF());
+                long stateGeneration = in.readLong();
+                Map<Long, int[]> statePending = new HashMap<>();
+                int pendingSize = in.readInt();
+                for (int i = 0; i < pendingSize; i++) {
+                    long snippetId = in.readLong();
+                    int[] trigrams = new int[in.readInt()];
+                    for (int k = 0; k < trigrams.length; k++) {
+                        trigrams[k] = in.readInt();
+                    }
+                    statePending.put(snippetId, trigrams);
+                }
+                Set<Long> stateRemoved = new HashSet<>();
+                int removedSize = in.readInt();
+                for (int i = 0; i < removedSize; i++) {
+                    stateRemoved.add(in.readLong());
+                }
+                return new LoadedState(upTo, stateGeneration, statePending, stateRemoved);
+            });
+            TrigramPostings loadedBase = readChecked(
+                    dir.resolve(baseFileName(state.generation())), TrigramPostings::readFrom);
+
+            lock.writeLock().lock();
+            try {
+                base = loadedBase;
+                pending = state.pending();
+                removed = state.removed();
+                pendingTrigrams = state.pending().values().stream().mapToLong(trigrams -> trigrams.length).sum();
+                generation = state.generation();
+                persistedGeneration = state.generation();
+                persistedChanges = changes;
+                persistedUpTo = state.upTo();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Trigram index loaded: {} (up to: {}, trigrams: {}, pending: {})",
+                    dir, state.upTo(), loadedBase.trigramCount(), state.pending().size());
+            return state.upTo();
+        } catch (NoSuchFileException e) {
+            log.info("Trigram index has no saved state, rebuilding");
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Trigram index load failed, rebuilding: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(properties.getIndexDir()).toAbsolutePath().normalize().resolve(DIRECTORY);
+    }
+
+    private static String baseFileName(long generation) {
+        return BASE_PREFIX + generation + BASE_SUFFIX;
+    }
+
+    private static void deleteStaleBases(Path dir, long currentGeneration) throws IOException {
+        String current = baseFileName(currentGeneration);
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(BASE_PREFIX) && name.endsWith(BASE_SUFFIX) && !name.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * 임시 파일에 쓰고 CRC32 를 덧붙인 뒤 rename (읽는 쪽은 완성된 파일만 봄)
+     */
+    private static void writeChecked(Path target, Writer writer) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)), crc))) {
+                writer.write(out);
+                out.flush();
+                out.writeLong(crc.getValue());
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static <T> T readChecked(Path source, Reader<T> reader) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(source)), crc))) {
+            T value = reader.read(in);
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("checksum mismatch: " + source.getFileName());
+            }
+            return value;
+        }
+    }
+
+    private int pendingCount() {
+        lock.readLock().lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long pendingBytes() {
+        lock.readLock().lock();
+        try {
+            return pendingTrigrams * Integer.BYTES + (long) (pending.size() + removed.size()) * ENTRY_OVERHEAD_BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 짧은 posting 부터 교집합 (빈 결과가 나오면 바로 종료)
+     */
+    private static long[] intersect(TrigramPostings postings, int[] required) {
+        int[] order = Arrays.stream(required).boxed()
+                .sorted((a, b) -> Integer.compare(postings.count(a), postings.count(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        long[] result = postings.postings(order[0]);
+        for (int k = 1; k < order.length && result.length > 0; k++) {
+            result = intersectSorted(result, postings.postings(order[k]));
+        }
+        return result;
+    }
+
+    private static long[] intersectSorted(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private record LoadedState(LocalDateTime upTo, long generation, Map<Long, int[]> pending, Set<Long> removed) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.develop.snippet.domain.snippet.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 트라이그램 -> 스니펫 id posting list (불변)
+ * - trigrams: 오름차순 트라이그램, offsets[i] ~ offsets[i + 1]: data 안의 i 번째 posting 구간
+ * - posting 은 id 오름차순 delta 를 varint 로 인코딩 (연속 id 는 1 byte)
+ * 변경은 merge 로 새 인스턴스를 만든다.
+ * writeTo/readFrom 으로 배열을 그대로 저장/복원한다 (TrigramIndex 의 영속화).
+ */
+final class TrigramPostings {
+
+    static final TrigramPostings EMPTY = new TrigramPostings(new int[0], new int[]{0}, new int[0], new byte[0]);
+
+    // 병합 시 (트라이그램 << ID_BITS | id) 하나의 long 으로 정렬
+    static final int ID_BITS = 39;
+    static final long MAX_ID = (1L << ID_BITS) - 1;
+
+    private final int[] trigrams;
+    private final int[] offsets;
+    private final int[] counts;
+    private final byte[] data;
+
+    private TrigramPostings(int[] trigrams, int[] offsets, int[] counts, byte[] data) {
+        this.trigrams = trigrams;
+        this.offsets = offsets;
+        this.counts = counts;
+        this.data = data;
+    }
+
+    int trigramCount() {
+        return trigrams.length;
+    }
+
+    long sizeInBytes() {
+        return data.length + (long) Integer.BYTES * (trigrams.length + offsets.length + counts.length);
+    }
+
+    /**
+     * posting 길이 (없으면 0)
+     */
+    int count(int trigram) {
+        int index = Arrays.binarySearch(trigrams, trigram);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * posting 디코딩 (id 오름차순)
+     */
+    long[] postings(int trigram) {
+        int index = Arrays.binarySearch(trigrams, trigram);
+        if (index < 0) {
+            return new long[0];
+        }
+        long[] ids = new long[counts[index]];
+        int position = offsets[index];
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        writeInts(out, trigrams);
+        writeInts(out, offsets);
+        writeInts(out, counts);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    static TrigramPostings readFrom(DataInput in) throws IOException {
+        int[] trigrams = readInts(in);
+        int[] offsets = readInts(in);
+        int[] counts = readInts(in);
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        if (offsets.length != trigrams.length + 1 || counts.length != trigrams.length
+                || offsets[offsets.length - 1] != data.length) {
+            throw new IOException("corrupted trigram postings");
+        }
+        return new TrigramPostings(trigrams, offsets, counts, data);
+    }
+
+    private static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInput in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    /**
+     * 기존 posting 에서 removed 를 빼고 added (id -> 정렬된 트라이그램) 를 더한 새 인스턴스
+     */
+    static TrigramPostings merge(TrigramPostings base, Set<Long> removed, Map<Long, int[]> added) {
+        long[] pairs = sortedPairs(added);
+
+        IntArray trigramsOut = new IntArray(base.trigrams.length + 1024);
+        IntArray offsetsOut = new IntArray(base.offsets.length + 1024);
+        IntArray countsOut = new IntArray(base.counts.length + 1024);
+        ByteArrayOutputStream dataOut = new ByteArrayOutputStream(base.data.length + pairs.length * 2);
+        offsetsOut.add(0);
+
+        int i = 0;
+        int j = 0;
+        long[] buffer = new long[16];
+        while (i < base.trigrams.length || j < pairs.length) {
+            int trigram = nextTrigram(base, i, pairs, j);
+
+            int size = 0;
+            if (i < base.trigrams.length && base.trigrams[i] == trigram) {
+                for (long id : base.postings(trigram)) {
+                    if (!removed.contains(id)) {
+                        buffer = grow(buffer, size);
+                        buffer[size++] = id;
+                    }
+                }
+                i++;
+            }
+            int baseSize = size;
+            while (j < pairs.length && (int) (pairs[j] >>> ID_BITS) == trigram) {
+                buffer = grow(buffer, size);
+                buffer[size++] = pairs[j++] & MAX_ID;
+            }
+            if (size > baseSize && baseSize > 0) {
+                Arrays.sort(buffer, 0, size);
+            }
+
+            int written = writePosting(dataOut, buffer, size);
+            if (written > 0) {
+                trigramsOut.add(trigram);
+                countsOut.add(written);
+                offsetsOut.add(dataOut.size());
+            }
+        }
+
+        return new TrigramPostings(
+                trigramsOut.toArray(), offsetsOut.toArray(), countsOut.toArray(), dataOut.toByteArray());
+    }
+
+    private static long[] sortedPairs(Map<Long, int[]> added) {
+        int total = 0;
+        for (int[] docTrigrams : added.values()) {
+            total += docTrigrams.length;
+        }
+        long[] pairs = new long[total];
+        int index = 0;
+        for (Map.Entry<Long, int[]> entry : added.entrySet()) {
+            long id = entry.getKey();
+            for (int trigram : entry.getValue()) {
+                pairs[index++] = (long) trigram << ID_BITS | id;
+            }
+        }
+        // 24 + 39 bit 로 부호 bit 를 쓰지 않으므로 signed 정렬 == (트라이그램, id) 순서
+        Arrays.sort(pairs);
+        return pairs;
+    }
+
+    private static int nextTrigram(TrigramPostings base, int i, long[] pairs, int j) {
+        if (i >= base.trigrams.length) {
+            return (int) (pairs[j] >>> ID_BITS);
+        }
+        if (j >= pairs.length) {
+            return base.trigrams[i];
+        }
+        return Math.min(base.trigrams[i], (int) (pairs[j] >>> ID_BITS));
+    }
+
+    /**
+     * 정렬된 id 를 delta varint 로 기록 (중복 id 는 건너뜀)
+     * @return 기록한 id 수
+     */
+    private static int writePosting(ByteArrayOutputStream out, long[] ids, int size) {
+        long previous = 0;
+        int written = 0;
+        for (int k = 0; k < size; k++) {
+            long delta = ids[k] - previous;
+            if (written > 0 && delta == 0) {
+                continue;
+            }
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) (delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+            previous = ids[k];
+            written++;
+        }
+        return written;
+    }
+
+    private static long[] grow(long[] buffer, int size) {
+        return size < buffer.length ? buffer : Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    private static final class IntArray {
+
+        private int[] values;
+        private int size;
+
+        IntArray(int capacity) {
+            values = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.develop.snippet.domain.snippet.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * UTF-8 byte 기준 트라이그램 추출 (3 bytes -> int 하위 24 bit)
+ * 대소문자를 구분한다 (getUserId 와 getuserid 는 다른 트라이그램).
+ */
+final class Trigrams {
+
+    static final int[] NONE = new int[0];
+
+    private Trigrams() {
+    }
+
+    /**
+     * 본문의 서로 다른 트라이그램 (오름차순)
+     */
+    static int[] of(byte[] content) {
+        if (content.length < 3) {
+            return NONE;
+        }
+        int[] trigrams = new int[content.length - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = pack(content[i], content[i + 1], content[i + 2]);
+        }
+        return distinctSorted(trigrams);
+    }
+
+    /**
+     * 부분 문자열 검색어의 트라이그램 (3 bytes 미만이면 NONE)
+     */
+    static int[] ofLiteral(String literal) {
+        return of(literal.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정규식이 매치되려면 반드시 포함해야 하는 트라이그램
+     * 최상위 고정 문자열 구간만 보수적으로 뽑는다. '|' 나 플래그가 있으면 좁힐 수 없으므로 NONE.
+     * (NONE 이 아닌 결과는 모든 매치가 포함하는 트라이그램의 부분집합)
+     */
+    static int[] ofRegex(String regex) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '|' -> {
+                    return NONE;
+                }
+                case '\\' -> {
+                    if (i + 1 >= regex.length()) {
+                        return NONE;
+                    }
+                    char next = regex.charAt(++i);
+                    if ("xu0cpPkNQ".indexOf(next) >= 0) {
+                        // 인자를 받는 escape (\x41, \p{L}, \Q...\E 등)
+                        return NONE;
+                    }
+                    if (Character.isLetterOrDigit(next)) {
+                        // \d \w \s \b, 역참조 등: 고정 문자가 아님
+                        flush(literals, current, depth);
+                    } else {
+                        current.append(next);
+                    }
+                }
+                case '*', '?' -> {
+                    // 직전 문자가 없어도 되므로 빼고 끊는다
+                    dropLast(current);
+                    flush(literals, current, depth);
+                }
+                case '{' -> {
+                    dropLast(current);
+                    flush(literals, current, depth);
+                    int end = regex.indexOf('}', i);
+                    i = end < 0 ? regex.length() : end;
+                }
+                case '[' -> {
+                    flush(literals, current, depth);
+                    i = skipCharClass(regex, i);
+                }
+                case '(' -> {
+                    if (i + 1 < regex.length() && regex.charAt(i + 1) == '?'
+                            && i + 2 < regex.length() && regex.charAt(i + 2) != ':') {
+                        // (?i) 등 플래그/전후방 탐색
+                        return NONE;
+                    }
+                    flush(literals, current, depth);
+                    depth++;
+                }
+                case ')' -> {
+                    // 그룹 뒤에 수량자가 붙을 수 있어 그룹 안 문자열은 사용하지 않는다
+                    current.setLength(0);
+                    depth = Math.max(0, depth - 1);
+                }
+                case '.', '^', '$', '+' -> flush(literals, current, depth);
+                default -> current.append(c);
+            }
+        }
+        flush(literals, current, depth);
+
+        int[] merged = NONE;
+        for (String literal : literals) {
+            merged = union(merged, ofLiteral(literal));
+        }
+        return merged;
+    }
+
+    static int pack(byte b0, byte b1, byte b2) {
+        return (b0 & 0xFF) << 16 | (b1 & 0xFF) << 8 | (b2 & 0xFF);
+    }
+
+    static boolean containsAll(int[] sortedTrigrams, int[] required) {
+        for (int trigram : required) {
+            if (Arrays.binarySearch(sortedTrigrams, trigram) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void flush(List<String> literals, StringBuilder current, int depth) {
+        if (depth == 0 && current.length() >= 3) {
+            literals.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    private static void dropLast(StringBuilder current) {
+        if (!current.isEmpty()) {
+            current.setLength(current.length() - 1);
+        }
+        if (!current.isEmpty() && Character.isHighSurrogate(current.charAt(current.length() - 1))) {
+            current.setLength(current.length() - 1);
+        }
+    }
+
+    private static int skipCharClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        while (i < regex.length() && regex.charAt(i) != ']') {
+            if (regex.charAt(i) == '\\') {
+                i++;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int[] distinctSorted(int[] values) {
+        Arrays.sort(values);
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] merged = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, merged, a.length, b.length);
+        return distinctSorted(merged);
+    }
+}
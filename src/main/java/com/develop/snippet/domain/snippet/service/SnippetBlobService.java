@@ -0,0 +1,129 @@
+package com.develop.snippet.domain.snippet.service;
+
+import com.develop.snippet.domain.snippet.repository.SnippetBlobRepository;
+import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.infra.storage.LocalFileStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스니펫 본문 blob 저장/참조 관리 (호출자 트랜잭션 안에서 사용)
+ *
+ * 저장 (acquire):
+ * 1. SHA-256 계산
+ * 2. 기존 blob 이면 참조 수 +1 (압축/쓰기 없음, 파일이 사라졌으면 다시 씀)
+ * 3. 새 blob 이면 Deflate 압축 -> INSERT ... ON DUPLICATE KEY UPDATE -> 파일 쓰기
+ *
+ * 삭제는 참조 수를 줄이기만 하고, 파일은 유예 시간 뒤 GC 가 행 잠금을 잡은 채로 지운다.
+ * 참조 증가도 같은 행을 잠그므로 GC 가 막 참조된 파일을 지우는 일은 없다.
+ */
+@Slf4j
+@Service
+public class SnippetBlobService {
+
+    private final SnippetBlobRepository snippetBlobRepository;
+    private final LocalFileStorage localFileStorage;
+    private final TransactionTemplate requiresNew;
+
+    public SnippetBlobService(
+            SnippetBlobRepository snippetBlobRepository,
+            LocalFileStorage localFileStorage,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.snippetBlobRepository = snippetBlobRepository;
+        this.localFileStorage = localFileStorage;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 본문 저장 + 참조 1 증가
+     * @return blob 해시 (SHA-256 32 bytes)
+     */
+    public byte[] acquire(byte[] content) {
+        return acquire(content, HashUtil.sha256Bytes(content));
+    }
+
+    /**
+     * 해시를 이미 계산한 경우 (수정 시 변경 여부 비교 등)
+     */
+    public byte[] acquire(byte[] content, byte[] hash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (snippetBlobRepository.incrementRef(hash, now) == 1) {
+            if (!localFileStorage.exists(hash)) {
+                log.warn("Blob file missing, rewriting: {}", HashUtil.toHex(hash));
+                writeFile(hash, localFileStorage.compress(content));
+            }
+            return hash;
+        }
+
+        // 행을 먼저 등록(잠금)한 뒤 파일을 써야 롤백 정리/GC 가 쓰는 중인 파일을 지우지 않는다
+        byte[] compressed = localFileStorage.compress(content);
+        snippetBlobRepository.insertOrIncrementRef(hash, content.length, compressed.length, now);
+        writeFile(hash, compressed);
+        return hash;
+    }
+
+    /**
+     * 참조 1 감소 (파일은 GC 에서 삭제)
+     */
+    public void release(byte[] hash) {
+        snippetBlobRepository.decrementRef(hash, LocalDateTime.now());
+    }
+
+    public byte[] read(byte[] hash) {
+        return localFileStorage.readContent(hash);
+    }
+
+    /**
+     * 압축 저장 크기 (행이 없으면 참조 중인 blob 이 아니므로 예외)
+     */
+    public long getStoredBytes(byte[] hash) {
+        return snippetBlobRepository.findStoredBytes(hash)
+                .orElseThrow(() -> new IllegalStateException("blob 메타데이터 없음: " + HashUtil.toHex(hash)));
+    }
+
+    /**
+     * 참조가 없는 blob 삭제 (행 잠금 -> 파일 삭제 -> 행 삭제)
+     * 파일 삭제 후 커밋이 실패해도 다음 acquire 가 파일을 다시 쓰므로 안전하다.
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfUnreferenced(byte[] hash) {
+        Boolean deleted = requiresNew.execute(status -> {
+            Integer refCount = snippetBlobRepository.lockRefCount(hash).orElse(0);
+            if (refCount > 0) {
+                return false;
+            }
+            localFileStorage.delete(hash);
+            snippetBlobRepository.deleteUnreferenced(hash);
+            return true;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    /**
+     * 새로 쓴 파일은 트랜잭션이 롤백되면 (다른 트랜잭션이 참조하지 않은 경우) 삭제
+     */
+    private void writeFile(byte[] hash, byte[] compressed) {
+        localFileStorage.write(hash, compressed);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        deleteIfUnreferenced(hash);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.develop.snippet.domain.snippet.service;
+
+import com.develop.snippet.domain.snippet.domain.Snippet;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import com.develop.snippet.domain.snippet.dto.request.SnippetCodeSearchRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetCreateRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetSearchRequest;
+import com.develop.snippet.domain.snippet.dto.request.SnippetUpdateRequest;
+import com.develop.snippet.domain.snippet.dto.response.SnippetCodeSearchResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetListItemResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetResponse;
+import com.develop.snippet.domain.snippet.dto.response.SnippetSearchResponse;
+import com.develop.snippet.domain.snippet.event.SnippetChangedEvent;
+import com.develop.snippet.domain.snippet.render.RenderKey;
+import com.develop.snippet.domain.snippet.render.SnippetRenderCache;
+import com.develop.snippet.domain.snippet.repository.SnippetDeletionRepository;
+import com.develop.snippet.domain.snippet.repository.SnippetQueryRepository;
+import com.develop.snippet.domain.snippet.repository.SnippetQueryRepository.CodeSearchPage;
+import com.develop.snippet.domain.snippet.repository.SnippetQueryRepository.SearchPage;
+import com.develop.snippet.domain.snippet.repository.SnippetRepository;
+import com.develop.snippet.domain.snippet.search.CodeQuery;
+import com.develop.snippet.domain.snippet.search.CodeSearchBudget;
+import com.develop.snippet.domain.snippet.search.SnippetSearchProperties;
+import com.develop.snippet.domain.snippet.search.TrigramIndex;
+import com.develop.snippet.domain.tag.service.TagService;
+import com.develop.snippet.global.error.ApiErrorCode;
+import com.develop.snippet.global.error.ApiException;
+import com.develop.snippet.global.util.CursorPageRequest;
+import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.global.util.PageResponse;
+import com.develop.snippet.global.util.PageResponse.Cursor;
+import com.develop.snippet.infra.storage.StorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnippetService {
+
+    private final SnippetRepository snippetRepository;
+    private final SnippetDeletionRepository snippetDeletionRepository;
+    private final SnippetQueryRepository snippetQueryRepository;
+    private final TrigramIndex trigramIndex;
+    private final SnippetBlobService snippetBlobService;
+    private final SnippetRenderCache snippetRenderCache;
+    private final TagService tagService;
+    private final StorageProperties storageProperties;
+    private final SnippetSearchProperties searchProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SnippetResponse create(Long userId, SnippetCreateRequest request) {
+        byte[] content = toContentBytes(request.getContent());
+        byte[] blobHash = snippetBlobService.acquire(content);
+
+        Snippet snippet = snippetRepository.save(Snippet.builder()
+                .userId(userId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .language(request.getLanguage())
+                .visibility(request.getVisibility())
+                .blobHash(blobHash)
+                .sizeBytes((long) content.length)
+                .build());
+        List<String> tags = tagService.replaceSnippetTags(snippet.getId(), request.getTags());
+        eventPublisher.publishEvent(new SnippetChangedEvent(snippet.getId()));
+
+        log.info("Snippet created - snippetId: {}, userId: {}, bytes: {}", snippet.getId(), userId, content.length);
+        return SnippetResponse.of(snippet, tags, request.getContent());
+    }
+
+    /**
+     * 스니펫 조회 (PRIVATE 는 작성자만, 그 외에는 존재 자체를 숨김)
+     * @param viewerId 비로그인이면 null
+     */
+    @Transactional(readOnly = true)
+    public SnippetResponse get(Long snippetId, Long viewerId) {
+        Snippet snippet = getVisibleSnippet(snippetId, viewerId);
+        String content = new String(snippetBlobService.read(snippet.getBlobHash()), StandardCharsets.UTF_8);
+        return SnippetResponse.of(snippet, tagService.getTagNames(snippetId), content);
+    }
+
+    /**
+     * raw 응답용 메타데이터 (본문은 읽지 않음, 전송은 SnippetRawWriter)
+     */
+    @Transactional(readOnly = true)
+    public RawSnippet getRaw(Long snippetId, Long viewerId) {
+        Snippet snippet = getVisibleSnippet(snippetId, viewerId);
+        return new RawSnippet(
+                snippet.getId(),
+                snippet.getTitle(),
+                snippet.getBlobHash(),
+                snippet.getSizeBytes(),
+                snippetBlobService.getStoredBytes(snippet.getBlobHash())
+        );
+    }
+
+    /**
+     * 구문 강조 대상 확인 (볼 수 있는 스니펫인지, ETag 를 만들 렌더 키)
+     * 렌더 전에 ETag 를 비교할 수 있도록 render 와 나눈다.
+     */
+    public RenderTarget getRenderTarget(Long snippetId, Long viewerId) {
+        Snippet snippet = getVisibleSnippet(snippetId, viewerId);
+        return new RenderTarget(RenderKey.of(snippet.getBlobHash(), snippet.getLanguage()), snippet.getBlobHash());
+    }
+
+    /**
+     * 구문 강조 HTML (내용/언어/렌더러 버전이 같으면 캐시된 결과 재사용)
+     * 렌더링 동안 커넥션을 잡지 않도록 트랜잭션 없이 조회
+     * @return UTF-8 HTML (캐시와 공유하므로 수정하지 않음)
+     */
+    public byte[] render(RenderTarget target) {
+        return snippetRenderCache.get(target.key(), () -> snippetBlobService.read(target.blobHash()));
+    }
+
+    /**
+     * 공개 스니펫 최신순 목록
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SnippetListItemResponse> list(CursorPageRequest request) {
+        Cursor cursor = request.toCursor();
+        List<Snippet> rows = snippetRepository.findPageByVisibility(
+                SnippetVisibility.PUBLIC, cursor.createdAt(), cursor.id(), Limit.of(request.fetchSize()));
+        Long totalCount = request.isWithCount() ? snippetRepository.countByVisibility(SnippetVisibility.PUBLIC) : null;
+        return PageResponse.of(rows, request.getSize(), Snippet::toCursor, totalCount).map(this::toListItems);
+    }
+
+    /**
+     * 사용자 피드 (본인이면 전체, 아니면 PUBLIC 만)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SnippetListItemResponse> listByUser(Long userId, Long viewerId, CursorPageRequest request) {
+        Cursor cursor = request.toCursor();
+        Limit limit = Limit.of(request.fetchSize());
+        boolean owner = userId.equals(viewerId);
+
+        List<Snippet> rows = owner
+                ? snippetRepository.findPageByUserId(userId, cursor.createdAt(), cursor.id(), limit)
+                : snippetRepository.findPageByUserIdAndVisibility(
+                        userId, SnippetVisibility.PUBLIC, cursor.createdAt(), cursor.id(), limit);
+
+        Long totalCount = null;
+        if (request.isWithCount()) {
+            totalCount = owner
+                    ? snippetRepository.countByUserId(userId)
+                    : snippetRepository.countByUserIdAndVisibility(userId, SnippetVisibility.PUBLIC);
+        }
+        return PageResponse.of(rows, request.getSize(), Snippet::toCursor, totalCount).map(this::toListItems);
+    }
+
+    /**
+     * 전문 검색 (PUBLIC + 본인 스니펫, 순위순)
+     */
+    @Transactional(readOnly = true)
+    public SnippetSearchResponse search(SnippetSearchRequest request, Long viewerId) {
+        int offset = request.getPage() * request.getSize();
+        if (offset + request.getSize() > searchProperties.getMaxResultWindow()) {
+            throw new ApiException(ApiErrorCode.INVALID_INPUT_VALUE,
+                    "검색 결과는 " + searchProperties.getMaxResultWindow() + "건까지만 조회할 수 있습니다.");
+        }
+
+        SearchPage page = snippetQueryRepository.search(
+                request.getQ(), request.getLanguage(), viewerId, offset, request.getSize());
+        return new SnippetSearchResponse(
+                toListItems(page.snippets()), page.totalHits(), request.getPage(), request.getSize());
+    }
+
+    /**
+     * 코드 부분 문자열/정규식 검색 (PUBLIC + 본인 스니펫, 최신순)
+     * 본문 확인(파일 읽기, 정규식) 동안 커넥션을 잡지 않도록 트랜잭션 없이 조회마다 짧게 사용
+     */
+    public SnippetCodeSearchResponse searchCode(SnippetCodeSearchRequest request, Long viewerId) {
+        if (!trigramIndex.isReady()) {
+            throw new ApiException(ApiErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+
+        CodeQuery query;
+        try {
+            query = request.isRegex()
+                    ? CodeQuery.regex(request.getQ(), searchProperties.getRegexTimeoutMs())
+                    : CodeQuery.literal(request.getQ());
+        } catch (PatternSyntaxException e) {
+            throw new ApiException(ApiErrorCode.INVALID_REGEX, "올바르지 않은 정규식입니다: " + e.getDescription());
+        }
+        // 좁힐 수 없는 검색어는 전체 본문을 읽어야 하므로 받지 않는다
+        if (!query.isNarrowable()) {
+            throw new ApiException(ApiErrorCode.CODE_SEARCH_TOO_BROAD);
+        }
+
+        CodeSearchBudget budget = CodeSearchBudget.start(
+                searchProperties.getCodeSearchTimeoutMs(), searchProperties.getCodeSearchMaxBytes());
+        CodeSearchPage page = snippetQueryRepository.searchCode(
+                query, request.getLanguage(), viewerId, request.getBeforeId(), request.getSize(),
+                searchProperties.getCodeSearchMaxCandidates(), budget);
+        return new SnippetCodeSearchResponse(toListItems(page.snippets()), page.nextBeforeId());
+    }
+
+    @Transactional
+    public SnippetResponse update(Long userId, Long snippetId, SnippetUpdateRequest request) {
+        Snippet snippet = getOwnedSnippet(userId, snippetId);
+
+        snippet.update(
+                request.getTitle() != null ? request.getTitle() : snippet.getTitle(),
+                request.getDescription() != null ? request.getDescription() : snippet.getDescription(),
+                request.getLanguage() != null ? request.getLanguage() : snippet.getLanguage(),
+                request.getVisibility() != null ? request.getVisibility() : snippet.getVisibility()
+        );
+
+        String content = request.getContent();
+        if (content != null) {
+            byte[] contentBytes = toContentBytes(content);
+            byte[] oldHash = snippet.getBlobHash();
+            byte[] newHash = HashUtil.sha256Bytes(contentBytes);
+            // 내용이 같으면 blob 참조 변경 없음
+            if (!Arrays.equals(oldHash, newHash)) {
+                snippetBlobService.acquire(contentBytes, newHash);
+                snippetBlobService.release(oldHash);
+                snippet.changeContent(newHash, (long) contentBytes.length);
+            }
+        } else {
+            content = new String(snippetBlobService.read(snippet.getBlobHash()), StandardCharsets.UTF_8);
+        }
+
+        List<String> tags = request.getTags() != null
+                ? tagService.replaceSnippetTags(snippetId, request.getTags())
+                : tagService.getTagNames(snippetId);
+        eventPublisher.publishEvent(new SnippetChangedEvent(snippetId));
+
+        return SnippetResponse.of(snippet, tags, content);
+    }
+
+    @Transactional
+    public void delete(Long userId, Long snippetId) {
+        Snippet snippet = getOwnedSnippet(userId, snippetId);
+        snippetRepository.delete(snippet);
+        // 다른 노드/재시작한 노드가 검색 색인에서도 지우도록 삭제 기록
+        snippetDeletionRepository.insert(snippetId, LocalDateTime.now());
+        snippetBlobService.release(snippet.getBlobHash());
+        tagService.removeSnippetTags(snippetId);
+        eventPublisher.publishEvent(new SnippetChangedEvent(snippetId));
+        log.info("Snippet deleted - snippetId: {}, userId: {}", snippetId, userId);
+    }
+
+    private List<SnippetListItemResponse> toListItems(List<Snippet> snippets) {
+        Map<Long, List<String>> tagNames = tagService.getTagNames(snippets.stream().map(Snippet::getId).toList());
+        return snippets.stream()
+                .map(snippet -> SnippetListItemResponse.of(snippet, tagNames.getOrDefault(snippet.getId(), List.of())))
+                .toList();
+    }
+
+    private Snippet getVisibleSnippet(Long snippetId, Long viewerId) {
+        return snippetRepository.findById(snippetId)
+                .filter(snippet -> snippet.isVisibleTo(viewerId))
+                .orElseThrow(() -> new ApiException(ApiErrorCode.SNIPPET_NOT_FOUND));
+    }
+
+    /**
+     * 작성자 확인 (볼 수 없는 스니펫은 get 과 같이 NOT_FOUND 로 존재를 숨기고, 보이지만 남의 것이면 FORBIDDEN)
+     */
+    private Snippet getOwnedSnippet(Long userId, Long snippetId) {
+        Snippet snippet = getVisibleSnippet(snippetId, userId);
+        if (!snippet.isOwnedBy(userId)) {
+            throw new ApiException(ApiErrorCode.FORBIDDEN);
+        }
+        return snippet;
+    }
+
+    private byte[] toContentBytes(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > storageProperties.getMaxContentBytes()) {
+            throw new ApiException(ApiErrorCode.SNIPPET_CONTENT_TOO_LARGE);
+        }
+        return bytes;
+    }
+
+    /**
+     * @param sizeBytes 원문 크기
+     * @param storedBytes 압축(zlib) 파일 크기
+     */
+    public record RawSnippet(
+            Long snippetId,
+            String title,
+            byte[] blobHash,
+            long sizeBytes,
+            long storedBytes
+    ) {
+    }
+
+    /**
+     * @param key 렌더 캐시 키 (ETag)
+     */
+    public record RenderTarget(
+            RenderKey key,
+            byte[] blobHash
+    ) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.develop.snippet.domain.snippet.support;
+
+import com.develop.snippet.domain.snippet.repository.SnippetBlobRepository;
+import com.develop.snippet.domain.snippet.service.SnippetBlobService;
+import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.infra.storage.StorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조가 0 인 blob 정리
+ * 유예 시간(grace-minutes) 동안은 남겨 두어 같은 내용이 다시 저장되면 그대로 재사용한다.
+ * blob 마다 짧은 트랜잭션(행 잠금 -> 파일 삭제 -> 행 삭제)으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.gc.enabled", havingValue = "true", matchIfMissing = true)
+public class SnippetBlobGcJob {
+
+    private final SnippetBlobRepository snippetBlobRepository;
+    private final SnippetBlobService snippetBlobService;
+    private final StorageProperties storageProperties;
+
+    @Scheduled(cron = "${app.storage.gc.cron:0 0 5 * * *}")
+    public void collect() {
+        StorageProperties.Gc gc = storageProperties.getGc();
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(gc.getGraceMinutes());
+        int deleted = 0;
+        int skipped = 0;
+
+        while (true) {
+            List<byte[]> hashes = snippetBlobRepository.findUnreferencedHashes(threshold, Limit.of(gc.getChunkSize()));
+            for (byte[] hash : hashes) {
+                try {
+                    if (snippetBlobService.deleteIfUnreferenced(hash)) {
+                        deleted++;
+                    } else {
+                        skipped++;  // 조회 후 다시 참조됨
+                    }
+                } catch (Exception e) {
+                    skipped++;
+                    log.warn("Blob GC failed: {} - {}", HashUtil.toHex(hash), e.getMessage());
+                }
+            }
+            // 실패/재참조로 남은 행이 다음 chunk 에 다시 나오므로 한 chunk 가 덜 차면 종료
+            if (hashes.size() < gc.getChunkSize() || skipped >= gc.getChunkSize()) {
+                break;
+            }
+        }
+
+        log.info("Blob GC finished - deleted: {}, skipped: {}", deleted, skipped);
+    }
+}
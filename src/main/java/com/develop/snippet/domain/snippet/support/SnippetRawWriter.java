@@ -0,0 +1,212 @@
+package com.develop.snippet.domain.snippet.support;
+
+import com.develop.snippet.domain.snippet.service.SnippetService.RawSnippet;
+import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.infra.storage.LocalFileStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 스니펫 원문(raw) 응답
+ * - 저장 파일이 zlib 이므로 클라이언트가 deflate 를 받으면 파일을 그대로 보낸다
+ *   (Tomcat sendfile 지원 시 커널에서 바로 전송, 아니면 FileChannel.transferTo)
+ * - 그 외에는 압축을 풀면서 고정 크기 buffer 로 전송 (본문 전체를 heap 에 올리지 않음)
+ * - ETag 는 내용 해시 기반 strong ETag (표현마다 다른 값), Range 는 단일 구간만 지원
+ */
+@Component
+@RequiredArgsConstructor
+public class SnippetRawWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorage localFileStorage;
+
+    public void write(RawSnippet snippet, boolean download, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean deflate = acceptsDeflate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        long length = deflate ? snippet.storedBytes() : snippet.sizeBytes();
+        String etag = "\"" + HashUtil.toHex(snippet.blobHash()) + (deflate ? "-deflate" : "") + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 같은 URL 의 내용이 수정될 수 있으므로 매번 ETag 로 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType("text/plain;charset=UTF-8");
+        if (deflate) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "deflate");
+        }
+        if (download) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(snippet.title() + ".txt", StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (!deflate) {
+            localFileStorage.transferContent(snippet.blobHash(), start, count, response.getOutputStream());
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문은 쓰지 않고 컨테이너가 응답 후 파일을 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, localFileStorage.storedPath(snippet.blobHash()).toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            localFileStorage.transferStored(
+                    snippet.blobHash(), start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    /**
+     * Accept-Encoding 에 deflate(또는 *) 가 q > 0 으로 있는지
+     */
+    static boolean acceptsDeflate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].strip().toLowerCase(Locale.ROOT);
+            if (!coding.equals("deflate") && !coding.equals("*")) {
+                continue;
+            }
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].strip();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (quality > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.strip();
+            // If-None-Match 는 weak 비교 (W/ 접두어 무시)
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Range 가 없거나 현재 strong ETag 와 같을 때만 Range 적용 (날짜 형식은 지원하지 않으므로 전체 전송)
+     */
+    private static boolean ifRangeMatches(String ifRange, String etag) {
+        return ifRange == null || ifRange.strip().equals(etag);
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" (단일 구간)
+     * 숫자가 아닌 값(부호 포함)이나 b < a 는 잘못된 Range 이므로 무시한다 (RFC 9110 14.2).
+     * @return {start, end} / 여러 구간이거나 형식이 다르면 빈 배열(전체 전송) / 만족할 수 없으면 null (416)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.regionMatches(true, 0, "bytes=", 0, "bytes=".length()) || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).strip();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        long first = dash == 0 ? -1 : parsePosition(spec.substring(0, dash));
+        long last = dash == spec.length() - 1 ? -1 : parsePosition(spec.substring(dash + 1));
+
+        if (dash == 0) {
+            // suffix: 마지막 n bytes
+            if (last < 0) {
+                return new long[0];
+            }
+            if (last == 0 || length == 0) {
+                return null;
+            }
+            return new long[]{Math.max(0, length - last), length - 1};
+        }
+        if (first < 0 || (dash < spec.length() - 1 && (last < 0 || last < first))) {
+            return new long[0];
+        }
+        if (first >= length) {
+            return null;
+        }
+        long end = last < 0 ? length - 1 : Math.min(last, length - 1);
+        return new long[]{first, end};
+    }
+
+    /**
+     * 숫자만으로 된 위치 (부호, 공백, 범위 초과는 -1)
+     */
+    private static long parsePosition(String value) {
+        if (value.isEmpty()) {
+            return -1;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.develop.snippet.domain.snippet_tag.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스니펫 - 태그 연결 (FK 없이 id 로만 연결)
+ */
+@Entity
+@Table(
+        name = "snippet_tags",
+        uniqueConstraints = @UniqueConstraint(name = "uq_snippet_tags", columnNames = {"snippet_id", "tag_id"}),
+        indexes = @Index(name = "idx_snippet_tags_tag", columnList = "tag_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnippetTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snippet_tag_id")
+    private Long id;
+
+    @Column(name = "snippet_id", nullable = false)
+    private Long snippetId;
+
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    public SnippetTag(Long snippetId, Long tagId) {
+        this.snippetId = snippetId;
+        this.tagId = tagId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.develop.snippet.domain.snippet_tag.repository;
+
+import com.develop.snippet.domain.snippet_tag.domain.SnippetTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SnippetTagRepository extends JpaRepository<SnippetTag, Long> {
+
+    List<SnippetTag> findBySnippetId(Long snippetId);
+
+    /**
+     * 스니펫별 태그 이름 (목록/검색 결과용, IN 조회 1회)
+     */
+    @Query("SELECT st.snippetId AS snippetId, t.name AS name " +
+            "FROM SnippetTag st JOIN Tag t ON t.id = st.tagId " +
+            "WHERE st.snippetId IN :snippetIds " +
+            "ORDER BY t.name")
+    List<SnippetTagNameView> findTagNames(@Param("snippetIds") Collection<Long> snippetIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SnippetTag st WHERE st.snippetId = :snippetId AND st.tagId IN :tagIds")
+    int deleteBySnippetIdAndTagIdIn(@Param("snippetId") Long snippetId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SnippetTag st WHERE st.snippetId = :snippetId")
+    int deleteBySnippetId(@Param("snippetId") Long snippetId);
+
+    interface SnippetTagNameView {
+        Long getSnippetId();
+        String getName();
+    }
+}
@@ -0,0 +1,32 @@
+package com.develop.snippet.domain.tag.controller;
+
+import com.develop.snippet.domain.tag.dto.response.TagSuggestionResponse;
+import com.develop.snippet.domain.tag.service.TagService;
+import com.develop.snippet.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+
+    /**
+     * 태그 자동완성 (입력할 때마다 호출, DB 조회 없음)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<TagSuggestionResponse>>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(tagService.autocomplete(prefix, limit)));
+    }
+}
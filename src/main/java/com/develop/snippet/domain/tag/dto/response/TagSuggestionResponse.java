@@ -0,0 +1,17 @@
+package com.develop.snippet.domain.tag.dto.response;
+
+import com.develop.snippet.domain.tag.support.TagAutocompleteIndex.Suggestion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagSuggestionResponse {
+
+    private String name;
+    private int usageCount;  // 이 태그가 달린 스니펫 수
+
+    public static TagSuggestionResponse of(Suggestion suggestion) {
+        return new TagSuggestionResponse(suggestion.name(), suggestion.usageCount());
+    }
+}
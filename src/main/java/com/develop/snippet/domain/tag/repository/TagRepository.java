@@ -0,0 +1,42 @@
+package com.develop.snippet.domain.tag.repository;
+
+import com.develop.snippet.domain.tag.domain.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * 태그 등록 (동시에 같은 이름이 등록돼도 unique 충돌 없이 무시)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO tags (name, created_at) VALUES (:name, :now)", nativeQuery = true)
+    int insertIgnore(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    /**
+     * 태그별 사용 스니펫 수 (자동완성 색인 기동 시 적재 + autocomplete-resync-interval-ms 마다 재동기화, snippet_tags 전체 GROUP BY)
+     */
+    @Query("SELECT t.id AS tagId, t.name AS name, COUNT(st.id) AS usageCount " +
+            "FROM Tag t LEFT JOIN SnippetTag st ON st.tagId = t.id " +
+            "GROUP BY t.id, t.name")
+    List<TagUsageView> findUsageCounts();
+
+    interface TagUsageView {
+        Long getTagId();
+        String getName();
+        Long getUsageCount();
+    }
+}
@@ -0,0 +1,191 @@
+package com.develop.snippet.domain.tag.service;
+
+import com.develop.snippet.domain.snippet_tag.domain.SnippetTag;
+import com.develop.snippet.domain.snippet_tag.repository.SnippetTagRepository;
+import com.develop.snippet.domain.snippet_tag.repository.SnippetTagRepository.SnippetTagNameView;
+import com.develop.snippet.domain.tag.dto.response.TagSuggestionResponse;
+import com.develop.snippet.domain.tag.repository.TagRepository;
+import com.develop.snippet.domain.tag.support.TagAutocompleteIndex;
+import com.develop.snippet.global.error.ApiErrorCode;
+import com.develop.snippet.global.error.ApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 등록 + 스니펫 태그 연결 (snippet_tags 변경은 모두 여기를 거친다)
+ * 연결이 바뀌면 commit 후 자동완성 색인의 사용량을 같이 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private static final int MAX_TAGS_PER_SNIPPET = 10;
+    private static final int MAX_TAG_LENGTH = 50;
+
+    private final TagRepository tagRepository;
+    private final SnippetTagRepository snippetTagRepository;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    /**
+     * 스니펫 태그 교체 (추가/삭제된 것만 반영)
+     * @return 정규화된 태그 이름
+     */
+    @Transactional
+    public List<String> replaceSnippetTags(Long snippetId, Collection<String> names) {
+        Set<String> normalized = normalize(names);
+        Map<String, Long> tagIds = resolveTagIds(normalized);
+
+        Set<Long> current = snippetTagRepository.findBySnippetId(snippetId).stream()
+                .map(SnippetTag::getTagId)
+                .collect(Collectors.toSet());
+        Set<Long> wanted = new HashSet<>(tagIds.values());
+
+        Set<Long> removed = new HashSet<>(current);
+        removed.removeAll(wanted);
+        if (!removed.isEmpty()) {
+            snippetTagRepository.deleteBySnippetIdAndTagIdIn(snippetId, removed);
+        }
+
+        Map<Long, String> added = new HashMap<>();
+        tagIds.forEach((name, tagId) -> {
+            if (!current.contains(tagId)) {
+                added.put(tagId, name);
+            }
+        });
+        snippetTagRepository.saveAll(added.keySet().stream().map(tagId -> new SnippetTag(snippetId, tagId)).toList());
+
+        adjustUsageAfterCommit(added, removed);
+        return new ArrayList<>(normalized);
+    }
+
+    @Transactional
+    public void removeSnippetTags(Long snippetId) {
+        Set<Long> removed = snippetTagRepository.findBySnippetId(snippetId).stream()
+                .map(SnippetTag::getTagId)
+                .collect(Collectors.toSet());
+        if (removed.isEmpty()) {
+            return;
+        }
+        snippetTagRepository.deleteBySnippetId(snippetId);
+        adjustUsageAfterCommit(Map.of(), removed);
+    }
+
+    /**
+     * 태그 자동완성 (사용량 많은 순)
+     */
+    public List<TagSuggestionResponse> autocomplete(String prefix, int limit) {
+        String normalized = normalizeName(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        return tagAutocompleteIndex.suggest(normalized, Math.min(limit, TagAutocompleteIndex.MAX_SUGGESTIONS)).stream()
+                .map(TagSuggestionResponse::of)
+                .toList();
+    }
+
+    public List<String> getTagNames(Long snippetId) {
+        return getTagNames(List.of(snippetId)).getOrDefault(snippetId, List.of());
+    }
+
+    /**
+     * 스니펫 id -> 태그 이름 (이름순)
+     */
+    public Map<Long, List<String>> getTagNames(Collection<Long> snippetIds) {
+        if (snippetIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> result = new HashMap<>();
+        for (SnippetTagNameView view : snippetTagRepository.findTagNames(snippetIds)) {
+            result.computeIfAbsent(view.getSnippetId(), id -> new ArrayList<>()).add(view.getName());
+        }
+        return result;
+    }
+
+    /**
+     * 이름 -> tag_id (없는 태그는 등록)
+     */
+    private Map<String, Long> resolveTagIds(Set<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> tagIds = new HashMap<>();
+        tagRepository.findByNameIn(names).forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
+        if (tagIds.size() == names.size()) {
+            return tagIds;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> missing = names.stream().filter(name -> !tagIds.containsKey(name)).toList();
+        missing.forEach(name -> tagRepository.insertIgnore(name, now));
+        tagRepository.findByNameIn(missing).forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
+        return tagIds;
+    }
+
+    /**
+     * 롤백된 변경이 섞이지 않도록 commit 후에만 사용량 반영
+     * @param added tag_id -> 이름 (처음 쓰이는 태그도 색인에 등록)
+     */
+    private void adjustUsageAfterCommit(Map<Long, String> added, Set<Long> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                added.forEach((tagId, name) -> tagAutocompleteIndex.adjust(tagId, name, 1));
+                removed.forEach(tagId -> tagAutocompleteIndex.adjust(tagId, null, -1));
+            }
+        });
+    }
+
+    private static String normalizeName(String name) {
+        String tag = name.strip();
+        while (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        return tag.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 앞뒤 공백/'#' 제거, 소문자, 중복 제거 (입력 순서 유지)
+     */
+    private Set<String> normalize(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (names == null) {
+            return normalized;
+        }
+        for (String name : names) {
+            if (name == null) {
+                continue;
+            }
+            String tag = normalizeName(name);
+            if (tag.isEmpty()) {
+                continue;
+            }
+            if (tag.length() > MAX_TAG_LENGTH) {
+                throw new ApiException(ApiErrorCode.INVALID_INPUT_VALUE, "태그는 " + MAX_TAG_LENGTH + "자 이하여야 합니다.");
+            }
+            normalized.add(tag);
+        }
+        if (normalized.size() > MAX_TAGS_PER_SNIPPET) {
+            throw new ApiException(ApiErrorCode.INVALID_INPUT_VALUE, "태그는 최대 " + MAX_TAGS_PER_SNIPPET + "개입니다.");
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,257 @@
+package com.develop.snippet.domain.tag.support;
+
+import com.develop.snippet.domain.tag.repository.TagRepository;
+import com.develop.snippet.domain.tag.repository.TagRepository.TagUsageView;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 자동완성용 사용량 가중 prefix trie (메모리)
+ * - 노드마다 하위 트리에서 가장 많이 쓰인 태그 MAX_SUGGESTIONS 개를 미리 정렬해 두어 조회는 prefix 길이만큼만 내려간다.
+ * - 사용량이 바뀌면 해당 태그 경로(최대 50 노드)의 상위 목록만 다시 계산한다.
+ * - 기동 시 snippet_tags 집계로 채우고, 이후에는 TagService 가 commit 된 변경분(+1/-1)만 반영한다.
+ * - +1/-1 은 이 노드의 변경만 반영하므로 resync-interval 마다 집계로 다시 만들어 교체한다 (다른 노드의 변경 반영).
+ *   새 trie 는 잠금 밖에서 만들고, 집계 후 교체 전에 반영된 로컬 변경은 다음 재동기화에서 맞춰진다.
+ */
+@Slf4j
+@Component
+public class TagAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int[] NO_TAGS = new int[0];
+
+    private final TagRepository tagRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    // tag_id -> 내부 index, index 로 이름/사용량 조회
+    private Map<Long, Integer> indexByTagId = new HashMap<>();
+    private String[] names = new String[256];
+    private int[] counts = new int[256];
+    private int size;
+
+    public TagAutocompleteIndex(TagRepository tagRepository) {
+        this.tagRepository = tagRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        List<TagUsageView> usages = tagRepository.findUsageCounts();
+        rebuild(usages);
+        log.info("Tag autocomplete index loaded - tags: {}", usages.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.tag.autocomplete-resync-interval-ms:300000}",
+            fixedDelayString = "${app.tag.autocomplete-resync-interval-ms:300000}"
+    )
+    public void resync() {
+        try {
+            List<TagUsageView> usages = tagRepository.findUsageCounts();
+            rebuild(usages);
+            log.debug("Tag autocomplete index resynced - tags: {}", usages.size());
+        } catch (Exception e) {
+            log.warn("Tag autocomplete resync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 결과로 새 trie 를 만들어 교체 (경로마다 다시 계산하지 않고 모두 넣은 뒤 한 번에 상위 목록 계산)
+     */
+    void rebuild(List<TagUsageView> usages) {
+        TagAutocompleteIndex built = new TagAutocompleteIndex(tagRepository);
+        for (TagUsageView usage : usages) {
+            int index = built.register(usage.getTagId(), usage.getName());
+            built.counts[index] = usage.getUsageCount().intValue();
+            built.insert(index);
+        }
+        built.computeTop(built.root);
+
+        lock.writeLock().lock();
+        try {
+            root = built.root;
+            indexByTagId = built.indexByTagId;
+            names = built.names;
+            counts = built.counts;
+            size = built.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용량이 많은 순으로 prefix 로 시작하는 태그 (사용량 0 인 태그는 제외)
+     * @param prefix 정규화된(소문자) 접두어
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int count = Math.min(limit, node.top.length);
+            List<Suggestion> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = node.top[i];
+                suggestions.add(new Suggestion(names[index], counts[index]));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용량 변경 (commit 후 호출)
+     */
+    public void adjust(Long tagId, String name, int delta) {
+        lock.writeLock().lock();
+        try {
+            apply(tagId, name, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Long tagId, String name, int delta) {
+        Integer index = indexByTagId.get(tagId);
+        if (index == null) {
+            if (name == null) {
+                return;  // 기동 후 한 번도 본 적 없는 태그의 감소 (이미 0)
+            }
+            index = register(tagId, name);
+        }
+        counts[index] = Math.max(0, counts[index] + delta);
+
+        // 루트 -> 태그 끝 노드 경로를 만든 뒤 아래에서부터 상위 목록 재계산
+        Node[] path = insert(index);
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i].top = topOf(path[i]);
+        }
+    }
+
+    /**
+     * 태그 끝 노드까지 경로 생성
+     * @return 루트 -> 태그 끝 노드 경로
+     */
+    private Node[] insert(int index) {
+        String tagName = names[index];
+        Node[] path = new Node[tagName.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < tagName.length(); i++) {
+            path[i + 1] = path[i].childOrCreate(tagName.charAt(i));
+        }
+        path[tagName.length()].terminal = index;
+        return path;
+    }
+
+    /**
+     * 하위 트리 전체의 상위 목록 계산 (자식 먼저, 깊이는 태그 최대 길이 50)
+     */
+    private void computeTop(Node node) {
+        for (Node child : node.children) {
+            computeTop(child);
+        }
+        node.top = topOf(node);
+    }
+
+    private int register(Long tagId, String name) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        names[size] = name;
+        indexByTagId.put(tagId, size);
+        return size++;
+    }
+
+    /**
+     * 노드 자신의 태그 + 자식들의 상위 목록에서 다시 상위 MAX_SUGGESTIONS 개
+     */
+    private int[] topOf(Node node) {
+        int[] candidates = new int[MAX_SUGGESTIONS * (node.children.length + 1)];
+        int candidateCount = 0;
+        if (node.terminal >= 0 && counts[node.terminal] > 0) {
+            candidates[candidateCount++] = node.terminal;
+        }
+        for (Node child : node.children) {
+            for (int index : child.top) {
+                candidates[candidateCount++] = index;
+            }
+        }
+        if (candidateCount == 0) {
+            return NO_TAGS;
+        }
+
+        Integer[] sorted = new Integer[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            sorted[i] = candidates[i];
+        }
+        Arrays.sort(sorted, (a, b) -> counts[a] != counts[b]
+                ? Integer.compare(counts[b], counts[a])
+                : names[a].compareTo(names[b]));
+
+        int[] top = new int[Math.min(MAX_SUGGESTIONS, candidateCount)];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = sorted[i];
+        }
+        return top;
+    }
+
+    /**
+     * trie 노드 (자식은 정렬된 char[] + Node[] 로 HashMap 없이 보관)
+     */
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int terminal = -1;
+        private int[] top = NO_TAGS;
+
+        Node child(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position >= 0) {
+                return children[position];
+            }
+
+            int insertAt = -position - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+    }
+
+    public record Suggestion(String name, int usageCount) {
+    }
+}
@@ -5,14 +5,24 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+// id 조회 2차 캐시 (prod), 캐시된 엔티티로 갱신해도 변경한 컬럼만 UPDATE
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
+@Table(
+        name = "users",
+        indexes = @Index(name = "idx_users_updated_at", columnList = "updated_at, user_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -37,6 +47,10 @@ public class User {
     @Column(nullable = false, length = 20)
     private UserRole role = UserRole.USER;
 
+    // 증가 시 이전에 발급된 Access Token 전부 무효
+    @Column(name = "token_epoch", nullable = false)
+    private Integer tokenEpoch = 0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -51,6 +65,7 @@ public class User {
         this.displayName = displayName;
         this.role = role != null ? role : UserRole.USER;
         this.status = UserStatus.ACTIVE;
+        this.tokenEpoch = 0;
     }
 
     // 비즈니스 메서드
@@ -60,6 +75,7 @@ public class User {
 
     public void suspend() {
         this.status = UserStatus.SUSPENDED;
+        bumpTokenEpoch();
     }
 
     public void activate() {
@@ -68,6 +84,11 @@ public class User {
 
     public void delete() {
         this.status = UserStatus.DELETED;
+        bumpTokenEpoch();
+    }
+
+    public int bumpTokenEpoch() {
+        return ++this.tokenEpoch;
     }
 
     public boolean isActive() {
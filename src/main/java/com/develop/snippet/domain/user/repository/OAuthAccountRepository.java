@@ -2,13 +2,21 @@ package com.develop.snippet.domain.user.repository;
 
 import com.develop.snippet.domain.user.domain.AuthProvider;
 import com.develop.snippet.domain.user.domain.OAuthAccount;
+import com.develop.snippet.domain.user.domain.UserRole;
+import com.develop.snippet.domain.user.domain.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface OAuthAccountRepository extends JpaRepository<OAuthAccount, Long> {
 
     Optional<OAuthAccount> findByProviderAndProviderSubject(
@@ -16,6 +24,31 @@ public interface OAuthAccountRepository extends JpaRepository<OAuthAccount, Long
             String providerSubject
     );
 
+    /**
+     * OAuth 로그인 식별 정보 (계정 + 사용자 join 한 번)
+     */
+    @Query("SELECT oa.id AS oauthAccountId, u.id AS userId, u.email AS email, u.displayName AS displayName, " +
+            "u.role AS role, u.status AS status, oa.lastLoginAt AS lastLoginAt " +
+            "FROM OAuthAccount oa JOIN User u ON u.id = oa.userId " +
+            "WHERE oa.provider = :provider AND oa.providerSubject = :providerSubject")
+    Optional<LoginIdentityView> findLoginIdentity(
+            @Param("provider") AuthProvider provider,
+            @Param("providerSubject") String providerSubject
+    );
+
+    /**
+     * 마지막 로그인 시간 갱신 (기존 값이 threshold 이전일 때만)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OAuthAccount oa SET oa.lastLoginAt = :now " +
+            "WHERE oa.id = :id AND (oa.lastLoginAt IS NULL OR oa.lastLoginAt < :threshold)")
+    int touchLastLogin(
+            @Param("id") Long oauthAccountId,
+            @Param("now") LocalDateTime now,
+            @Param("threshold") LocalDateTime threshold
+    );
+
     List<OAuthAccount> findByUserId(Long userId);
 
     Optional<OAuthAccount> findByUserIdAndProvider(Long userId, AuthProvider provider);
@@ -24,4 +57,14 @@ public interface OAuthAccountRepository extends JpaRepository<OAuthAccount, Long
             AuthProvider provider,
             String providerSubject
     );
-}
\ No newline at end of file
+
+    interface LoginIdentityView {
+        Long getOauthAccountId();
+        Long getUserId();
+        String getEmail();
+        String getDisplayName();
+        UserRole getRole();
+        UserStatus getStatus();
+        LocalDateTime getLastLoginAt();
+    }
+}
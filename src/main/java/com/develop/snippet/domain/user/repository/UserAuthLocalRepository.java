@@ -3,10 +3,12 @@ package com.develop.snippet.domain.user.repository;
 import com.develop.snippet.domain.user.domain.UserAuthLocal;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface UserAuthLocalRepository extends JpaRepository<UserAuthLocal, Long> {
 
     Optional<UserAuthLocal> findByUserId(Long userId);
@@ -2,12 +2,19 @@ package com.develop.snippet.domain.user.repository;
 
 import com.develop.snippet.domain.user.domain.User;
 import com.develop.snippet.domain.user.domain.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
@@ -15,4 +22,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailAndStatus(String email, UserStatus status);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id AS userId, u.tokenEpoch AS tokenEpoch FROM User u WHERE u.tokenEpoch > 0")
+    List<TokenEpochView> findAllTokenEpochs();
+
+    @Query("SELECT u.id AS userId, u.status AS status FROM User u WHERE u.status <> :status")
+    List<UserStatusView> findIdsByStatusNot(@Param("status") UserStatus status);
+
+    @Query("SELECT MAX(u.updatedAt) FROM User u")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * (updated_at, user_id) 이후 변경된 사용자 상태 (idx_users_updated_at keyset)
+     */
+    @Query("SELECT u.id AS userId, u.status AS status, u.tokenEpoch AS tokenEpoch, u.updatedAt AS updatedAt " +
+            "FROM User u " +
+            "WHERE u.updatedAt > :since OR (u.updatedAt = :since AND u.id > :lastId) " +
+            "ORDER BY u.updatedAt, u.id")
+    List<UserStateView> findStateChanges(
+            @Param("since") LocalDateTime since,
+            @Param("lastId") Long lastId,
+            Limit limit
+    );
+
+    interface TokenEpochView {
+        Long getUserId();
+        Integer getTokenEpoch();
+    }
+
+    interface UserStatusView {
+        Long getUserId();
+        UserStatus getStatus();
+    }
+
+    interface UserStateView {
+        Long getUserId();
+        UserStatus getStatus();
+        Integer getTokenEpoch();
+        LocalDateTime getUpdatedAt();
+    }
 }
\ No newline at end of file
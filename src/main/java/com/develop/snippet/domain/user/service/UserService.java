@@ -0,0 +1,85 @@
+package com.develop.snippet.domain.user.service;
+
+import com.develop.snippet.domain.user.domain.User;
+import com.develop.snippet.domain.user.repository.UserRepository;
+import com.develop.snippet.domain.user.support.OAuthIdentityCache;
+import com.develop.snippet.global.error.ApiErrorCode;
+import com.develop.snippet.global.error.ApiException;
+import com.develop.snippet.global.security.jwt.InactiveUserRegistry;
+import com.develop.snippet.global.security.jwt.TokenEpochRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final OAuthIdentityCache oAuthIdentityCache;
+    private final InactiveUserRegistry inactiveUserRegistry;
+
+    /**
+     * 기동 시 token epoch 적재 (epoch 를 올린 적 있는 사용자만)
+     */
+    @PostConstruct
+    public void loadTokenEpochs() {
+        userRepository.findAllTokenEpochs()
+                .forEach(view -> tokenEpochRegistry.advance(view.getUserId(), view.getTokenEpoch()));
+        log.info("Token epochs loaded: {} users", tokenEpochRegistry.size());
+    }
+
+    /**
+     * 발급된 모든 Access Token 무효화 (epoch 증가)
+     */
+    @Transactional
+    public void revokeAllAccessTokens(Long userId) {
+        User user = getUser(userId);
+        tokenEpochRegistry.advance(userId, user.bumpTokenEpoch());
+        log.info("Token epoch bumped for userId: {} -> {}", userId, user.getTokenEpoch());
+    }
+
+    /**
+     * 사용자 정지 (기존 Access Token 즉시 무효)
+     */
+    @Transactional
+    public void suspend(Long userId) {
+        User user = getUser(userId);
+        user.suspend();
+        tokenEpochRegistry.advance(userId, user.getTokenEpoch());
+        inactiveUserRegistry.apply(userId, user.getStatus());
+        oAuthIdentityCache.invalidateUser(userId);
+        log.info("User suspended - userId: {}", userId);
+    }
+
+    /**
+     * 사용자 탈퇴 처리 (기존 Access Token 즉시 무효)
+     */
+    @Transactional
+    public void delete(Long userId) {
+        User user = getUser(userId);
+        user.delete();
+        tokenEpochRegistry.advance(userId, user.getTokenEpoch());
+        inactiveUserRegistry.apply(userId, user.getStatus());
+        oAuthIdentityCache.invalidateUser(userId);
+        log.info("User deleted - userId: {}", userId);
+    }
+
+    @Transactional
+    public void activate(Long userId) {
+        User user = getUser(userId);
+        user.activate();
+        inactiveUserRegistry.apply(userId, user.getStatus());
+        oAuthIdentityCache.invalidateUser(userId);
+        log.info("User activated - userId: {}", userId);
+    }
+
+    private User getUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
+    }
+}
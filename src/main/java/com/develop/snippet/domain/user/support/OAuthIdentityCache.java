@@ -0,0 +1,133 @@
+package com.develop.snippet.domain.user.support;
+
+import com.develop.snippet.domain.user.domain.AuthProvider;
+import com.develop.snippet.domain.user.domain.OAuthAccount;
+import com.develop.snippet.domain.user.domain.User;
+import com.develop.snippet.domain.user.domain.UserRole;
+import com.develop.snippet.domain.user.domain.UserStatus;
+import com.develop.snippet.domain.user.repository.OAuthAccountRepository.LoginIdentityView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * OAuth 로그인 식별 정보 캐시 ((provider, subject) -> 사용자)
+ * 재로그인 시 OAuth 계정/사용자 조회를 생략한다.
+ * 사용자 상태 변경(정지/탈퇴/활성화)은 UserService 가 무효화, 그 외 변경은 TTL 내 반영.
+ * 메트릭: cache.* (cache=oauth.identity)
+ */
+@Component
+public class OAuthIdentityCache implements MeterBinder {
+
+    private final Cache<String, LoginIdentity> identities;
+
+    public OAuthIdentityCache(
+            @Value("${app.security.oauth2.identity-cache-max-size:10000}") long maxSize,
+            @Value("${app.security.oauth2.identity-cache-ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.identities = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 식별 정보 조회 (없으면 loader 로 DB 조회, loader 가 null 이면 미가입)
+     */
+    public LoginIdentity get(AuthProvider provider, String subject, Function<String, LoginIdentity> loader) {
+        return identities.get(key(provider, subject), loader);
+    }
+
+    public void put(AuthProvider provider, String subject, LoginIdentity identity) {
+        identities.put(key(provider, subject), identity);
+    }
+
+    /**
+     * 사용자의 식별 정보 제거 (상태/권한 변경 시)
+     * 커밋 전 다른 로그인이 이전 상태를 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 제거한다.
+     */
+    public void invalidateUser(Long userId) {
+        Runnable invalidate = () -> identities.asMap().values()
+                .removeIf(identity -> identity.getUserId().equals(userId));
+        invalidate.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, identities, "oauth.identity");
+    }
+
+    private static String key(AuthProvider provider, String subject) {
+        return provider.name() + ':' + subject;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LoginIdentity {
+
+        private final Long oauthAccountId;
+        private final Long userId;
+        private final String email;
+        private final String displayName;
+        private final UserRole role;
+        private final UserStatus status;
+        private final LocalDateTime lastLoginAt;
+
+        public static LoginIdentity from(LoginIdentityView view) {
+            return new LoginIdentity(
+                    view.getOauthAccountId(),
+                    view.getUserId(),
+                    view.getEmail(),
+                    view.getDisplayName(),
+                    view.getRole(),
+                    view.getStatus(),
+                    view.getLastLoginAt()
+            );
+        }
+
+        public static LoginIdentity of(OAuthAccount oAuthAccount, User user) {
+            return new LoginIdentity(
+                    oAuthAccount.getId(),
+                    user.getId(),
+                    user.getEmail(),
+                    user.getDisplayName(),
+                    user.getRole(),
+                    user.getStatus(),
+                    oAuthAccount.getLastLoginAt()
+            );
+        }
+
+        /**
+         * 마지막 로그인 기록이 threshold 이전인지 (기록 갱신 필요 여부)
+         */
+        public boolean isLastLoginBefore(LocalDateTime threshold) {
+            return lastLoginAt == null || lastLoginAt.isBefore(threshold);
+        }
+
+        public LoginIdentity withLastLoginAt(LocalDateTime lastLoginAt) {
+            return new LoginIdentity(oauthAccountId, userId, email, displayName, role, status, lastLoginAt);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.develop.snippet.domain.user.support;
+
+import com.develop.snippet.domain.user.domain.UserStatus;
+import com.develop.snippet.domain.user.repository.UserRepository;
+import com.develop.snippet.domain.user.repository.UserRepository.UserStateView;
+import com.develop.snippet.global.security.jwt.InactiveUserRegistry;
+import com.develop.snippet.global.security.jwt.TokenEpochRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 상태/token epoch 를 메모리 registry 로 동기화
+ * - 기동 시: ACTIVE 가 아닌 사용자 전체 적재
+ * - 이후: (updated_at, user_id) keyset 으로 변경분만 조회해 반영
+ * 늦게 커밋된 트랜잭션을 놓치지 않도록 매번 overlap 만큼 이전부터 다시 읽는다 (반영은 멱등).
+ */
+@Slf4j
+@Component
+public class UserStateSync {
+
+    private final UserRepository userRepository;
+    private final InactiveUserRegistry inactiveUserRegistry;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final int batchSize;
+    private final Duration overlap;
+
+    // 마지막으로 반영한 변경 위치 (스케줄러 스레드에서만 접근)
+    private LocalDateTime cursorUpdatedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public UserStateSync(
+            UserRepository userRepository,
+            InactiveUserRegistry inactiveUserRegistry,
+            TokenEpochRegistry tokenEpochRegistry,
+            @Value("${app.security.user-state-sync.batch-size:1000}") int batchSize,
+            @Value("${app.security.user-state-sync.overlap-seconds:30}") long overlapSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.inactiveUserRegistry = inactiveUserRegistry;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.batchSize = batchSize;
+        this.overlap = Duration.ofSeconds(overlapSeconds);
+    }
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime maxUpdatedAt = userRepository.findMaxUpdatedAt();
+        userRepository.findIdsByStatusNot(UserStatus.ACTIVE)
+                .forEach(view -> inactiveUserRegistry.apply(view.getUserId(), view.getStatus()));
+        if (maxUpdatedAt != null) {
+            cursorUpdatedAt = maxUpdatedAt;
+        }
+        log.info("Inactive users loaded: {}", inactiveUserRegistry.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.security.user-state-sync.interval-ms:5000}",
+            fixedDelayString = "${app.security.user-state-sync.interval-ms:5000}"
+    )
+    public void sync() {
+        LocalDateTime since = cursorUpdatedAt.minus(overlap);
+        long lastId = 0L;
+        int applied = 0;
+
+        try {
+            while (true) {
+                List<UserStateView> changes = userRepository.findStateChanges(since, lastId, Limit.of(batchSize));
+                for (UserStateView change : changes) {
+                    inactiveUserRegistry.apply(change.getUserId(), change.getStatus());
+                    tokenEpochRegistry.advance(change.getUserId(), change.getTokenEpoch());
+                }
+                applied += changes.size();
+
+                if (!changes.isEmpty()) {
+                    UserStateView last = changes.get(changes.size() - 1);
+                    since = last.getUpdatedAt();
+                    lastId = last.getUserId();
+                    if (since.isAfter(cursorUpdatedAt)) {
+                        cursorUpdatedAt = since;
+                    }
+                }
+                if (changes.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // 다음 주기에 같은 위치부터 다시 시도
+            log.warn("User state sync failed: {}", e.getMessage());
+        }
+
+        log.debug("User state sync - rows: {}, inactive: {}", applied, inactiveUserRegistry.size());
+    }
+}
@@ -0,0 +1,13 @@
+package com.develop.snippet.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화
+ * spring.threads.virtual.enabled=true 이면 Boot 기본 executor 가 virtual thread 를 사용한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
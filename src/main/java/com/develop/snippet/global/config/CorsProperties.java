@@ -0,0 +1,21 @@
+package com.develop.snippet.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cors")
+public class CorsProperties {
+
+    private List<String> allowedOrigins = List.of("http://localhost:5173");
+    private List<String> allowedMethods = List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS");
+    private List<String> allowedHeaders = List.of("*");
+    private Boolean allowCredentials = true;
+    private Long maxAge = 3600L;
+}
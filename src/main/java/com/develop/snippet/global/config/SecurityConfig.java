@@ -6,9 +6,12 @@ import com.develop.snippet.global.security.jwt.JwtAuthenticationFilter;
 import com.develop.snippet.global.security.oauth.CustomOAuth2UserService;
 import com.develop.snippet.global.security.oauth.OAuth2FailureHandler;
 import com.develop.snippet.global.security.oauth.OAuth2SuccessHandler;
+import com.develop.snippet.global.security.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -17,8 +20,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
-
-import java.util.List;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
 @EnableWebSecurity
@@ -29,14 +31,16 @@ public class SecurityConfig {
   private final OAuth2SuccessHandler oAuth2SuccessHandler;
   private final OAuth2FailureHandler oAuth2FailureHandler;
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RateLimitFilter rateLimitFilter;
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+  private final CorsProperties corsProperties;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
     http
             // CORS 설정 (중요!)
-            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .cors(Customizer.withDefaults())
 
             // CSRF 비활성화 (JWT 사용)
             .csrf(AbstractHttpConfigurer::disable)
@@ -58,9 +62,14 @@ public class SecurityConfig {
                     .requestMatchers(
                             "/",
                             "/error",
-                            "/favicon.ico"
+                            "/favicon.ico",
+                            "/.well-known/jwks.json"
                     ).permitAll()
 
+                    // Actuator: health 만 공개, 메트릭은 ADMIN
+                    .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                     // 테스트 엔드포인트 (임시)
                     .requestMatchers(
                             "/test/**",
@@ -79,6 +88,9 @@ public class SecurityConfig {
                             "/api/auth/logout"
                     ).permitAll()
 
+                    // 스니펫 조회 (PRIVATE 여부는 서비스에서 확인)
+                    .requestMatchers(HttpMethod.GET, "/api/snippets/**").permitAll()
+
                     // Admin 전용
                     .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -96,27 +108,29 @@ public class SecurityConfig {
             )
 
             // JWT 인증 필터 추가
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 인증 엔드포인트 요청 제한 (JWT 검증 전)
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
 
   /**
-   * CORS 설정
+   * CORS 설정 (app.cors)
+   * 기동 시 한 번만 만들어 모든 요청에서 같은 인스턴스를 사용
    */
   @Bean
   public CorsConfigurationSource corsConfigurationSource() {
-    return request -> {
-      CorsConfiguration config = new CorsConfiguration();
-      config.setAllowedOrigins(List.of("http://localhost:5173"));
-      config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-      config.setAllowedHeaders(List.of("*"));
-      config.setAllowCredentials(true);
-      config.setMaxAge(3600L);
-
-      System.out.println("CORS Config Applied for: " + request.getRequestURI());
-
-      return config;
-    };
+    CorsConfiguration config = new CorsConfiguration();
+    config.setAllowedOrigins(corsProperties.getAllowedOrigins());
+    config.setAllowedMethods(corsProperties.getAllowedMethods());
+    config.setAllowedHeaders(corsProperties.getAllowedHeaders());
+    config.setAllowCredentials(corsProperties.getAllowCredentials());
+    config.setMaxAge(corsProperties.getMaxAge());
+
+    UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+    source.registerCorsConfiguration("/**", config);
+    return source;
   }
 }
\ No newline at end of file
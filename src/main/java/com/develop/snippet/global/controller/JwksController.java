@@ -0,0 +1,37 @@
+package com.develop.snippet.global.controller;
+
+import com.develop.snippet.global.security.jwt.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWT 검증용 공개 키 (JWKS)
+ * 다른 서비스가 이 서비스를 호출하지 않고 토큰을 직접 검증할 수 있도록 공개한다.
+ * 키 목록은 기동 시 고정되므로 응답을 미리 직렬화해 둔다.
+ */
+@RestController
+public class JwksController {
+
+    private static final CacheControl CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
+    private final byte[] jwksBody;
+
+    public JwksController(JwtKeyRing jwtKeyRing, ObjectMapper objectMapper) {
+        this.jwksBody = objectMapper.writeValueAsBytes(Map.of("keys", jwtKeyRing.publicJwks()));
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(jwksBody);
+    }
+}
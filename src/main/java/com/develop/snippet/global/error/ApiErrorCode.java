@@ -15,15 +15,27 @@ public enum ApiErrorCode {
   // 인증/인가
   UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
   FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
   INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 Refresh Token입니다."),
   INVALID_TOKEN_TYPE(HttpStatus.BAD_REQUEST, "잘못된 토큰 타입입니다."),
   REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "Refresh Token을 찾을 수 없습니다."),
   REVOKED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "무효화된 Refresh Token입니다."),
   EXPIRED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 Refresh Token입니다."),
+  REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 Refresh Token입니다. 다시 로그인해주세요."),
 
   // 사용자
   USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
-  USER_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 사용자입니다.");
+  USER_INACTIVE(HttpStatus.FORBIDDEN, "정지되었거나 탈퇴한 사용자입니다."),
+  USER_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 사용자입니다."),
+
+  // 스니펫
+  SNIPPET_NOT_FOUND(HttpStatus.NOT_FOUND, "스니펫을 찾을 수 없습니다."),
+  SNIPPET_CONTENT_TOO_LARGE(HttpStatus.CONTENT_TOO_LARGE, "스니펫 본문이 허용 크기를 초과했습니다."),
+
+  // 검색
+  SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+  CODE_SEARCH_TOO_BROAD(HttpStatus.BAD_REQUEST, "검색어에 3자 이상의 고정 문자열이 필요합니다."),
+  INVALID_REGEX(HttpStatus.BAD_REQUEST, "올바르지 않은 정규식입니다.");
 
   private final HttpStatus status;
   private final String message;
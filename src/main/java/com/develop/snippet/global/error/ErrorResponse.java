@@ -3,8 +3,12 @@ package com.develop.snippet.global.error;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -32,4 +36,22 @@ public class ErrorResponse {
             LocalDateTime.now()
     );
   }
-}
\ No newline at end of file
+
+  /**
+   * 고정 메시지 에러 응답을 미리 직렬화 (timestamp 만 요청마다 채움)
+   */
+  public static PreEncodedErrorBody preEncoded(ObjectMapper objectMapper, HttpStatus status, String message) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("status", status.value());
+    fields.put("error", status.getReasonPhrase());
+    fields.put("message", message);
+    return PreEncodedErrorBody.of(objectMapper, fields, "timestamp");
+  }
+
+  /**
+   * preEncoded 응답의 timestamp 값 (Jackson 의 LocalDateTime 직렬화와 같은 ISO 형식)
+   */
+  public static String timestampNow() {
+    return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now());
+  }
+}
@@ -1,27 +1,61 @@
 package com.develop.snippet.global.error;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private static final String ERROR_METRIC = "api.errors";
+  private static final String INTERNAL_ERROR_MESSAGE = "서버 내부 오류가 발생했습니다.";
+
+  // 에러 코드별 발생 횟수 (ApiErrorCode 는 고정이므로 미리 등록)
+  private final Map<ApiErrorCode, Counter> apiErrorCounters = new EnumMap<>(ApiErrorCode.class);
+  private final Counter unexpectedErrorCounter;
+
+  // 에러 코드별 응답 body (고정 필드는 기동 시 직렬화, timestamp 만 요청마다 채움)
+  private final Map<ApiErrorCode, PreEncodedErrorBody> apiErrorBodies = new EnumMap<>(ApiErrorCode.class);
+  private final PreEncodedErrorBody unexpectedErrorBody;
+
+  public GlobalExceptionHandler(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+    for (ApiErrorCode errorCode : ApiErrorCode.values()) {
+      apiErrorCounters.put(errorCode, errorCounter(meterRegistry, errorCode.name(), errorCode.getStatus()));
+      apiErrorBodies.put(errorCode,
+              ErrorResponse.preEncoded(objectMapper, errorCode.getStatus(), errorCode.getMessage()));
+    }
+    this.unexpectedErrorCounter = errorCounter(meterRegistry, "UNHANDLED_EXCEPTION", HttpStatus.INTERNAL_SERVER_ERROR);
+    this.unexpectedErrorBody =
+            ErrorResponse.preEncoded(objectMapper, HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_ERROR_MESSAGE);
+  }
+
   /**
    * ApiException 처리
    */
   @ExceptionHandler(ApiException.class)
-  public ResponseEntity<ErrorResponse> handleApiException(ApiException e) {
+  public ResponseEntity<byte[]> handleApiException(ApiException e) {
     log.error("ApiException: {}", e.getMessage(), e);
+    apiErrorCounters.get(e.getErrorCode()).increment();
 
-    ErrorResponse response = ErrorResponse.of(e.getErrorCode());
-    return ResponseEntity
+    ResponseEntity.BodyBuilder response = ResponseEntity
             .status(e.getErrorCode().getStatus())
-            .body(response);
+            .contentType(MediaType.APPLICATION_JSON);
+    if (e instanceof RateLimitedException rateLimited) {
+      response.header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimited.getRetryAfterSeconds()));
+    }
+    return response.body(apiErrorBodies.get(e.getErrorCode()).render(ErrorResponse.timestampNow()));
   }
 
   /**
@@ -30,6 +64,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(BindException.class)
   public ResponseEntity<ErrorResponse> handleBindException(BindException e) {
     log.error("BindException: {}", e.getMessage(), e);
+    apiErrorCounters.get(ApiErrorCode.INVALID_INPUT_VALUE).increment();
 
     String message = e.getBindingResult()
             .getAllErrors()
@@ -46,15 +81,21 @@ public class GlobalExceptionHandler {
    * 기타 예외 처리
    */
   @ExceptionHandler(Exception.class)
-  public ResponseEntity<ErrorResponse> handleException(Exception e) {
+  public ResponseEntity<byte[]> handleException(Exception e) {
     log.error("Unexpected Exception: {}", e.getMessage(), e);
+    unexpectedErrorCounter.increment();
 
-    ErrorResponse response = ErrorResponse.of(
-            HttpStatus.INTERNAL_SERVER_ERROR,
-            "서버 내부 오류가 발생했습니다."
-    );
     return ResponseEntity
             .status(HttpStatus.INTERNAL_SERVER_ERROR)
-            .body(response);
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(unexpectedErrorBody.render(ErrorResponse.timestampNow()));
+  }
+
+  private static Counter errorCounter(MeterRegistry meterRegistry, String code, HttpStatus status) {
+    return Counter.builder(ERROR_METRIC)
+            .description("GlobalExceptionHandler 가 처리한 에러 수")
+            .tag("code", code)
+            .tag("status", String.valueOf(status.value()))
+            .register(meterRegistry);
   }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.develop.snippet.global.error;
+
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 미리 직렬화된 JSON 에러 응답
+ * 고정 필드는 기동 시 한 번만 bytes 로 만들어 두고, 요청마다 달라지는 문자열 필드 하나(path, timestamp)만 끼워 넣는다.
+ * 401/403 폭주 시 Map 생성 + Jackson 직렬화를 매번 하지 않기 위함.
+ */
+public final class PreEncodedErrorBody {
+
+    public static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private static final String PLACEHOLDER = "__PRE_ENCODED_DYNAMIC_FIELD__";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final byte[] prefix;  // 동적 값 앞부분 ({..."field":")
+    private final byte[] suffix;  // 동적 값 뒷부분 (",...})
+
+    private PreEncodedErrorBody(byte[] prefix, byte[] suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * @param fixedFields  고정 필드 (순서 유지)
+     * @param dynamicField 요청마다 값이 바뀌는 문자열 필드
+     */
+    public static PreEncodedErrorBody of(ObjectMapper objectMapper, Map<String, Object> fixedFields, String dynamicField) {
+        Map<String, Object> body = new LinkedHashMap<>(fixedFields);
+        body.put(dynamicField, PLACEHOLDER);
+
+        byte[] encoded = objectMapper.writeValueAsBytes(body);
+        byte[] placeholder = PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        int index = indexOf(encoded, placeholder);
+        if (index < 0) {
+            throw new IllegalStateException("Placeholder not found in encoded error body");
+        }
+
+        return new PreEncodedErrorBody(
+                Arrays.copyOfRange(encoded, 0, index),
+                Arrays.copyOfRange(encoded, index + placeholder.length, encoded.length)
+        );
+    }
+
+    /**
+     * 동적 필드 값을 끼워 넣은 응답 body
+     */
+    public byte[] render(String dynamicValue) {
+        byte[] value = escape(dynamicValue).getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[prefix.length + value.length + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(value, 0, body, prefix.length, value.length);
+        System.arraycopy(suffix, 0, body, prefix.length + value.length, suffix.length);
+        return body;
+    }
+
+    /**
+     * 상태 코드/Content-Type/body 를 응답에 바로 기록
+     */
+    public void writeTo(HttpServletResponse response, int status, String dynamicValue) throws IOException {
+        byte[] body = render(dynamicValue);
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+
+        OutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        outputStream.flush();
+    }
+
+    // JSON 문자열 escape (", \, 제어 문자). 대부분의 값은 escape 대상이 없으므로 원본 그대로 반환
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        int i = 0;
+        while (i < value.length() && !needsEscape(value.charAt(i))) {
+            i++;
+        }
+        if (i == value.length()) {
+            return value;
+        }
+
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        sb.append(value, 0, i);
+        for (; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!needsEscape(c)) {
+                sb.append(c);
+            } else if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else {
+                sb.append("\\u00").append(HEX_DIGITS[c >>> 4]).append(HEX_DIGITS[c & 0x0f]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean needsEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
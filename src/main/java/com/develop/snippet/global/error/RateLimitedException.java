@@ -0,0 +1,17 @@
+package com.develop.snippet.global.error;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 초과 (429 + Retry-After)
+ */
+@Getter
+public class RateLimitedException extends ApiException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitedException(long retryAfterSeconds) {
+    super(ApiErrorCode.TOO_MANY_REQUESTS);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -1,9 +1,9 @@
 package com.develop.snippet.global.security.handler;
 
+import com.develop.snippet.global.error.PreEncodedErrorBody;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -11,15 +11,23 @@ import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    // 고정 필드는 기동 시 직렬화, path 만 요청마다 끼워 넣음
+    private final PreEncodedErrorBody body;
+
+    public JwtAccessDeniedHandler(ObjectMapper objectMapper) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("status", 403);
+        fields.put("error", "Forbidden");
+        fields.put("message", "접근 권한이 없습니다.");
+        this.body = PreEncodedErrorBody.of(objectMapper, fields, "path");
+    }
 
     @Override
     public void handle(
@@ -30,15 +38,6 @@ public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
         log.error("Access denied error: {}", accessDeniedException.getMessage());
 
-        response.setContentType("application/json;charset=UTF-8");
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", 403);
-        body.put("error", "Forbidden");
-        body.put("message", "접근 권한이 없습니다.");
-        body.put("path", request.getServletPath());
-
-        objectMapper.writeValue(response.getOutputStream(), body);
+        body.writeTo(response, HttpServletResponse.SC_FORBIDDEN, request.getServletPath());
     }
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.develop.snippet.global.security.handler;
 
+import com.develop.snippet.global.error.PreEncodedErrorBody;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -11,15 +11,23 @@ import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    // 고정 필드는 기동 시 직렬화, path 만 요청마다 끼워 넣음
+    private final PreEncodedErrorBody body;
+
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("status", 401);
+        fields.put("error", "Unauthorized");
+        fields.put("message", "인증이 필요합니다.");
+        this.body = PreEncodedErrorBody.of(objectMapper, fields, "path");
+    }
 
     @Override
     public void commence(
@@ -30,15 +38,6 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
         log.error("Unauthorized error: {}", authException.getMessage());
 
-        response.setContentType("application/json;charset=UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", 401);
-        body.put("error", "Unauthorized");
-        body.put("message", "인증이 필요합니다.");
-        body.put("path", request.getServletPath());
-
-        objectMapper.writeValue(response.getOutputStream(), body);
+        body.writeTo(response, HttpServletResponse.SC_UNAUTHORIZED, request.getServletPath());
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.domain.user.domain.UserStatus;
+import com.develop.snippet.global.util.ConcurrentLongIntMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * ACTIVE 가 아닌 사용자 집합 (userId -> 상태)
+ * JwtAuthenticationFilter 가 요청마다 DB 조회 없이 정지/탈퇴 사용자를 차단한다.
+ * 기동 시 적재 후 UserStateSync 가 updated_at 기준 변경분으로 갱신한다 (다른 노드 변경도 수 초 내 반영).
+ */
+@Component
+public class InactiveUserRegistry implements MeterBinder {
+
+    private static final int NOT_DENIED = 0;
+
+    private final ConcurrentLongIntMap statuses = new ConcurrentLongIntMap(256, NOT_DENIED);
+
+    public boolean isInactive(Long userId) {
+        return statuses.get(userId) != NOT_DENIED;
+    }
+
+    /**
+     * 사용자 상태 반영 (ACTIVE 면 제거)
+     */
+    public void apply(Long userId, UserStatus status) {
+        if (status == UserStatus.ACTIVE) {
+            statuses.remove(userId);
+        } else {
+            statuses.put(userId, status.ordinal() + 1);
+        }
+    }
+
+    public int size() {
+        return statuses.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.inactive.users", this, InactiveUserRegistry::size)
+                .description("인증 차단 중인 정지/탈퇴 사용자 수")
+                .register(registry);
+    }
+}
@@ -2,11 +2,12 @@ package com.develop.snippet.global.security.jwt;
 
 import com.develop.snippet.domain.user.domain.UserRole;
 import com.develop.snippet.global.security.principal.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,13 +17,37 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final InactiveUserRegistry inactiveUserRegistry;
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public JwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            TokenEpochRegistry tokenEpochRegistry,
+            InactiveUserRegistry inactiveUserRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.inactiveUserRegistry = inactiveUserRegistry;
+
+        // 요청마다 registry 조회하지 않도록 결과별 Timer 를 미리 등록
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("auth.filter")
+                    .description("JWT 인증 필터 처리 시간 (다음 필터 제외)")
+                    .tag("outcome", outcome.tagValue)
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,53 +56,78 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        Outcome outcome;
         try {
-            // 1. Request Header에서 JWT 추출
-            String jwt = getJwtFromRequest(request);
-
-            // 2. JWT 검증
-            if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
-
-                // 3. Access Token인지 확인
-                if (!jwtProvider.isAccessToken(jwt)) {
-                    log.warn("Refresh Token cannot be used for authentication");
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-
-                // 4. JWT에서 사용자 정보 추출
-                Long userId = jwtProvider.getUserId(jwt);
-                String email = jwtProvider.getEmail(jwt);
-                UserRole role = jwtProvider.getRole(jwt);
-
-                // 5. UserPrincipal 생성
-                UserPrincipal userPrincipal = new UserPrincipal(userId, email, role);
-
-                // 6. Authentication 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userPrincipal,
-                                null,
-                                userPrincipal.getAuthorities()
-                        );
-
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-
-                // 7. SecurityContext에 인증 정보 설정
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Set Authentication to security context for '{}', uri: {}",
-                        email, request.getRequestURI());
-            }
+            outcome = authenticate(request);
         } catch (Exception e) {
             log.error("Could not set user authentication in security context", e);
+            outcome = Outcome.ERROR;
         }
+        timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
 
+    private Outcome authenticate(HttpServletRequest request) {
+        // 1. Request Header에서 JWT 추출
+        String jwt = getJwtFromRequest(request);
+        if (!StringUtils.hasText(jwt)) {
+            return Outcome.ANONYMOUS;
+        }
+
+        // 2. JWT 검증 + Claims 파싱 (캐시 hit 시 서명 검증 생략)
+        VerifiedToken token = verifiedTokenCache.verify(jwt).orElse(null);
+        if (token == null) {
+            return Outcome.INVALID;
+        }
+
+        // 3. Access Token인지 확인
+        if (!token.isAccessToken()) {
+            log.warn("Refresh Token cannot be used for authentication");
+            return Outcome.INVALID;
+        }
+
+        // 4. JWT에서 사용자 정보 추출
+        Long userId = token.getUserId();
+        String email = token.getEmail();
+        UserRole role = token.getRole();
+
+        // 4-1. 전체 로그아웃/정지 이전에 발급된 토큰 차단 (메모리 조회)
+        if (!tokenEpochRegistry.isCurrent(userId, token.getTokenEpoch())) {
+            log.debug("Access Token epoch is stale for userId: {}", userId);
+            return Outcome.STALE;
+        }
+
+        // 4-2. 정지/탈퇴 사용자 차단 (메모리 조회)
+        if (inactiveUserRegistry.isInactive(userId)) {
+            log.debug("Inactive user denied - userId: {}", userId);
+            return Outcome.DENIED;
+        }
+
+        // 5. UserPrincipal 생성
+        UserPrincipal userPrincipal = new UserPrincipal(userId, email, role);
+
+        // 6. Authentication 객체 생성
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userPrincipal,
+                        null,
+                        userPrincipal.getAuthorities()
+                );
+
+        authentication.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        // 7. SecurityContext에 인증 정보 설정
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        log.debug("Set Authentication to security context for '{}', uri: {}",
+                email, request.getRequestURI());
+        return Outcome.AUTHENTICATED;
+    }
+
     /**
      * Request Header에서 JWT 추출
      * Authorization: Bearer {token}
@@ -91,4 +141,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return null;
     }
+
+    private enum Outcome {
+        AUTHENTICATED("authenticated"),
+        ANONYMOUS("anonymous"),   // 토큰 없음
+        INVALID("invalid"),       // 검증 실패, Refresh Token 사용
+        STALE("stale"),           // epoch 이전 토큰
+        DENIED("denied"),         // 정지/탈퇴 사용자
+        ERROR("error");
+
+        private final String tagValue;
+
+        Outcome(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.develop.snippet.global.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 관리
+ * - active-key-id 설정 시: 해당 키(ES256/EdDSA)로 서명하고 헤더에 kid 기록
+ * - 미설정 시: secret 기반 HS512 서명 (기존 방식)
+ * - 검증: kid 로 키를 찾고, kid 가 없으면 HS512 secret 사용
+ * 키 교체 시 이전 키는 public-key 만 남겨두면 검증용으로 계속 유효하다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String ALG_ES256 = "ES256";
+    private static final String ALG_EDDSA = "EdDSA";
+
+    // X.509 인코딩된 Ed25519 public key 의 고정 prefix 길이 (뒤 32 bytes 가 raw key)
+    private static final int ED25519_X509_PREFIX_LENGTH = 12;
+
+    private final SecretKey hmacKey;
+    private final Map<String, JwtKey> keys;
+
+    @Getter
+    private final JwtKey activeKey;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        this.keys = loadKeys(jwtProperties.getKeys());
+
+        String activeKeyId = jwtProperties.getActiveKeyId();
+        if (activeKeyId != null && !activeKeyId.isBlank()) {
+            JwtKey key = keys.get(activeKeyId);
+            if (key == null || key.getPrivateKey() == null) {
+                throw new IllegalArgumentException(
+                        "JWT active key must have a private key: " + activeKeyId);
+            }
+            this.activeKey = key;
+        } else {
+            this.activeKey = null;
+        }
+
+        this.hmacKey = loadHmacKey(jwtProperties.getSecret(), activeKey == null);
+
+        log.info("JWT key ring initialized - signing: {}, verification keys: {}",
+                activeKey != null ? activeKey.getAlgorithmId() + " (kid=" + activeKey.getId() + ")" : "HS512",
+                keys.keySet());
+    }
+
+    public SecretKey getHmacKey() {
+        return hmacKey;
+    }
+
+    /**
+     * 검증 키 조회 (JwtParser keyLocator 용)
+     */
+    public LocatorAdapter<Key> verificationKeyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                String keyId = header.getKeyId();
+                if (keyId == null) {
+                    if (hmacKey == null) {
+                        throw new UnsupportedJwtException("JWT without kid is not accepted");
+                    }
+                    return hmacKey;
+                }
+
+                JwtKey key = keys.get(keyId);
+                if (key == null) {
+                    throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+                }
+                return key.getPublicKey();
+            }
+        };
+    }
+
+    /**
+     * 공개 키 목록 (JWK 형식)
+     */
+    public List<Map<String, Object>> publicJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtKey key : keys.values()) {
+            jwks.add(toJwk(key));
+        }
+        return jwks;
+    }
+
+    private static Map<String, JwtKey> loadKeys(List<JwtProperties.SigningKey> configuredKeys) {
+        if (configuredKeys == null || configuredKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, JwtKey> loaded = new LinkedHashMap<>();
+        for (JwtProperties.SigningKey configured : configuredKeys) {
+            if (configured.getId() == null || configured.getPublicKey() == null) {
+                throw new IllegalArgumentException("JWT key requires id and public-key");
+            }
+            if (loaded.containsKey(configured.getId())) {
+                throw new IllegalArgumentException("Duplicate JWT key id: " + configured.getId());
+            }
+            loaded.put(configured.getId(), JwtKey.of(configured));
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private static SecretKey loadHmacKey(String secret, boolean required) {
+        if (secret == null || secret.isEmpty()) {
+            if (required) {
+                throw new IllegalArgumentException("JWT Secret is null or empty");
+            }
+            return null;
+        }
+
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < 64) {
+            throw new IllegalArgumentException(
+                    String.format("JWT Secret key length must be at least 64 bytes for HS512. Current: %d bytes",
+                            keyBytes.length)
+            );
+        }
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    private static Map<String, Object> toJwk(JwtKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        if (ALG_ES256.equals(key.getAlgorithmId())) {
+            ECPublicKey publicKey = (ECPublicKey) key.getPublicKey();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encoder.encodeToString(toFixedLength(publicKey.getW().getAffineX(), 32)));
+            jwk.put("y", encoder.encodeToString(toFixedLength(publicKey.getW().getAffineY(), 32)));
+        } else {
+            byte[] encoded = key.getPublicKey().getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", encoder.encodeToString(
+                    Arrays.copyOfRange(encoded, ED25519_X509_PREFIX_LENGTH, encoded.length)));
+        }
+
+        jwk.put("use", "sig");
+        jwk.put("alg", key.getAlgorithmId());
+        jwk.put("kid", key.getId());
+        return jwk;
+    }
+
+    private static byte[] toFixedLength(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] fixed = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, length - copy, copy);
+        return fixed;
+    }
+
+    /**
+     * 서명/검증 키 한 쌍 (이전 키는 privateKey 없음)
+     */
+    @Getter
+    public static class JwtKey {
+
+        private final String id;
+        private final String algorithmId;
+        private final SignatureAlgorithm algorithm;
+        private final PublicKey publicKey;
+        private final PrivateKey privateKey;
+
+        private JwtKey(String id, String algorithmId, SignatureAlgorithm algorithm,
+                       PublicKey publicKey, PrivateKey privateKey) {
+            this.id = id;
+            this.algorithmId = algorithmId;
+            this.algorithm = algorithm;
+            this.publicKey = publicKey;
+            this.privateKey = privateKey;
+        }
+
+        static JwtKey of(JwtProperties.SigningKey configured) {
+            String algorithmId = configured.getAlgorithm() != null ? configured.getAlgorithm() : ALG_ES256;
+
+            SignatureAlgorithm algorithm;
+            String keyFactoryAlgorithm;
+            switch (algorithmId) {
+                case ALG_ES256 -> {
+                    algorithm = Jwts.SIG.ES256;
+                    keyFactoryAlgorithm = "EC";
+                }
+                case ALG_EDDSA -> {
+                    algorithm = Jwts.SIG.EdDSA;
+                    keyFactoryAlgorithm = "Ed25519";
+                }
+                default -> throw new IllegalArgumentException(
+                        "Unsupported JWT key algorithm: " + algorithmId + " (ES256, EdDSA)");
+            }
+
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(decodePem(configured.getPublicKey())));
+                PrivateKey privateKey = configured.getPrivateKey() != null && !configured.getPrivateKey().isBlank()
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(configured.getPrivateKey())))
+                        : null;
+                return new JwtKey(configured.getId(), algorithmId, algorithm, publicKey, privateKey);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid JWT key: " + configured.getId(), e);
+            }
+        }
+
+        /**
+         * PEM 또는 Base64(DER) 문자열 -> DER bytes
+         */
+        private static byte[] decodePem(String pem) {
+            String base64 = pem
+                    .replaceAll("-----BEGIN [A-Z ]+-----", "")
+                    .replaceAll("-----END [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(base64);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
@@ -19,4 +22,23 @@ public class JwtProperties {
     private String refreshCookiePath;
     private Boolean refreshCookieSecure;
     private String refreshCookieSameSite;
+    private Boolean accessTokenCacheEnabled = false;
+    private Long accessTokenCacheMaxSize = 10_000L;
+    private Long refreshStateCacheMaxSize = 50_000L;
+    private Integer refreshStateCacheTtlSeconds = 300;
+    private Integer refreshReuseGraceSeconds = 10;
+
+    // 비대칭 서명 키 (미설정 시 secret 으로 HS512 서명)
+    private String activeKeyId;
+    private List<SigningKey> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+
+        private String id;          // kid
+        private String algorithm;   // ES256 | EdDSA
+        private String publicKey;   // X.509 PEM
+        private String privateKey;  // PKCS#8 PEM (서명용 active 키만 필요)
+    }
 }
\ No newline at end of file
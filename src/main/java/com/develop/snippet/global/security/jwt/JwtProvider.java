@@ -2,51 +2,55 @@ package com.develop.snippet.global.security.jwt;
 
 import com.develop.snippet.domain.user.domain.UserRole;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
 
+    public static final String TYPE_ACCESS = "ACCESS";
+    public static final String TYPE_REFRESH = "REFRESH";
+
     private final JwtProperties jwtProperties;
-    private SecretKey secretKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final MeterRegistry meterRegistry;
+    private JwtParser jwtParser;  // thread-safe, init() 에서 한 번만 생성
+
+    // 서명/검증 소요 시간 (alg 태그: active 키 알고리즘, 없으면 HS512)
+    private Timer signTimer;
+    private Timer verifySuccessTimer;
+    private Timer verifyFailureTimer;
 
     @PostConstruct
     public void init() {
-        String secret = jwtProperties.getSecret();
-
-        // 디버그: 실제 로드된 값 확인
-        log.info("=== JWT Secret Debug ===");
-        log.info("Secret value: {}", secret);
-        log.info("Secret length: {} characters", secret != null ? secret.length() : 0);
-
-        if (secret == null || secret.isEmpty()) {
-            throw new IllegalArgumentException("JWT Secret is null or empty");
-        }
-
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        log.info("Secret bytes: {} bytes", keyBytes.length);
-
-        if (keyBytes.length < 64) {
-            throw new IllegalArgumentException(
-                    String.format("JWT Secret key length must be at least 64 bytes for HS512. Current: %d bytes",
-                            keyBytes.length)
-            );
-        }
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyRing.verificationKeyLocator())
+                .build();
 
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
-        log.info("JWT Secret Key initialized successfully");
+        JwtKeyRing.JwtKey activeKey = jwtKeyRing.getActiveKey();
+        String algorithm = activeKey != null ? activeKey.getAlgorithmId() : "HS512";
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("JWT 서명 시간")
+                .tag("alg", algorithm)
+                .register(meterRegistry);
+        this.verifySuccessTimer = verifyTimer(algorithm, "valid");
+        this.verifyFailureTimer = verifyTimer(algorithm, "invalid");
+        log.info("JWT parser initialized successfully");
     }
 
     /**
@@ -56,16 +60,17 @@ public class JwtProvider {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime expiryDate = now.plusMinutes(jwtProperties.getAccessTokenMinutes());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("role", role.name())
-                .claim("type", "ACCESS")
+                .claim("type", TYPE_ACCESS)
+                .claim("epoch", tokenEpochRegistry.current(userId))
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(toDate(now))
-                .expiration(toDate(expiryDate))
-                .signWith(secretKey, Jwts.SIG.HS512)  // ← 변경
-                .compact();
+                .expiration(toDate(expiryDate));
+
+        return sign(builder);
     }
 
     /**
@@ -75,14 +80,16 @@ public class JwtProvider {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime expiryDate = now.plusDays(jwtProperties.getRefreshTokenDays());
 
-        return Jwts.builder()
+        // 같은 초에 발급돼도 토큰(해시)이 겹치지 않도록 jti 부여 (refresh_token_hash UNIQUE)
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
-                .claim("type", "REFRESH")
+                .claim("type", TYPE_REFRESH)
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(toDate(now))
-                .expiration(toDate(expiryDate))
-                .signWith(secretKey, Jwts.SIG.HS512)  // ← 변경
-                .compact();
+                .expiration(toDate(expiryDate));
+
+        return sign(builder);
     }
 
     /**
@@ -90,11 +97,9 @@ public class JwtProvider {
      */
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser()  // ← 변경: parserBuilder() -> parser()
-                    .verifyWith(secretKey)  // ← 변경: setSigningKey() -> verifyWith()
-                    .build()
-                    .parseSignedClaims(token)  // ← 변경: parseClaimsJws() -> parseSignedClaims()
-                    .getPayload();  // ← 변경: getBody() -> getPayload()
+            return jwtParser
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰도 Claims는 추출 가능
             return e.getClaims();
@@ -130,12 +135,25 @@ public class JwtProvider {
      * JWT 유효성 검증
      */
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * JWT 서명 검증 + Claims 파싱을 한 번에 수행
+     * 검증 실패(서명 오류, 만료, 형식 오류) 시 empty 반환
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        long start = System.nanoTime();
+        Optional<VerifiedToken> verified = parseVerified(token);
+        (verified.isPresent() ? verifySuccessTimer : verifyFailureTimer)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+
+    private Optional<VerifiedToken> parseVerified(String token) {
         try {
-            Jwts.parser()  // ← 변경
-                    .verifyWith(secretKey)  // ← 변경
-                    .build()
-                    .parseSignedClaims(token);  // ← 변경
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return Optional.of(toVerifiedToken(claims));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -145,7 +163,7 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
@@ -155,7 +173,7 @@ public class JwtProvider {
         try {
             Claims claims = parseClaims(token);
             String type = claims.get("type", String.class);
-            return "ACCESS".equals(type);
+            return TYPE_ACCESS.equals(type);
         } catch (Exception e) {
             return false;
         }
@@ -168,7 +186,7 @@ public class JwtProvider {
         try {
             Claims claims = parseClaims(token);
             String type = claims.get("type", String.class);
-            return "REFRESH".equals(type);
+            return TYPE_REFRESH.equals(type);
         } catch (Exception e) {
             return false;
         }
@@ -185,6 +203,52 @@ public class JwtProvider {
                 .toLocalDateTime();
     }
 
+    /**
+     * active 키(kid 포함)로 서명, 없으면 HS512
+     */
+    private String sign(JwtBuilder builder) {
+        long start = System.nanoTime();
+        try {
+            JwtKeyRing.JwtKey activeKey = jwtKeyRing.getActiveKey();
+            if (activeKey == null) {
+                return builder
+                        .signWith(jwtKeyRing.getHmacKey(), Jwts.SIG.HS512)
+                        .compact();
+            }
+
+            return builder
+                    .header().keyId(activeKey.getId()).and()
+                    .signWith(activeKey.getPrivateKey(), activeKey.getAlgorithm())
+                    .compact();
+        } finally {
+            signTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer verifyTimer(String algorithm, String result) {
+        return Timer.builder("jwt.verify")
+                .description("JWT 서명 검증 + Claims 파싱 시간")
+                .tag("alg", algorithm)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims -> VerifiedToken 변환
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String role = claims.get("role", String.class);
+        Object epoch = claims.get("epoch");
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                role != null ? UserRole.valueOf(role) : null,
+                claims.get("type", String.class),
+                epoch instanceof Number number ? number.intValue() : 0,
+                claims.getExpiration().toInstant()
+        );
+    }
+
     /**
      * LocalDateTime -> Date 변환
      */
@@ -0,0 +1,47 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.global.util.ConcurrentLongIntMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 토큰 epoch (userId -> epoch)
+ * Access Token 의 epoch claim 이 현재 값보다 작으면 무효 처리한다.
+ * 전체 로그아웃/정지 시 epoch 를 올려 이미 발급된 Access Token 을 DB 조회 없이 차단한다.
+ * epoch 를 올린 적 없는 사용자는 저장하지 않는다 (기본값 0).
+ */
+@Component
+public class TokenEpochRegistry implements MeterBinder {
+
+    private final ConcurrentLongIntMap epochs = new ConcurrentLongIntMap(1024, 0);
+
+    public int current(Long userId) {
+        return epochs.get(userId);
+    }
+
+    public boolean isCurrent(Long userId, int tokenEpoch) {
+        return tokenEpoch >= epochs.get(userId);
+    }
+
+    /**
+     * epoch 반영 (값은 증가만 함)
+     */
+    public void advance(Long userId, int epoch) {
+        if (epoch > 0) {
+            epochs.putMax(userId, epoch);
+        }
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.token.epoch.users", this, TokenEpochRegistry::size)
+                .description("epoch 가 올라간 사용자 수")
+                .register(registry);
+    }
+}
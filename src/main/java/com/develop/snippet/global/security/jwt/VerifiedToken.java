@@ -0,0 +1,31 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.domain.user.domain.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 의 파싱 결과
+ * 한 번의 parse 로 필터/서비스가 필요한 값을 모두 꺼내 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;   // Refresh Token 에는 없음
+    private final UserRole role;  // Refresh Token 에는 없음
+    private final String type;
+    private final int tokenEpoch; // Refresh Token 은 0
+    private final Instant expiresAt;
+
+    public boolean isAccessToken() {
+        return JwtProvider.TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtProvider.TYPE_REFRESH.equals(type);
+    }
+}
@@ -0,0 +1,95 @@
+package com.develop.snippet.global.security.jwt;
+
+import com.develop.snippet.global.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 검증된 Access Token 캐시
+ * 같은 토큰이 반복 요청될 때 서명 검증/JSON 파싱을 건너뛴다.
+ * - key: 토큰 SHA-256 (원문 보관 안 함)
+ * - 각 엔트리는 토큰의 exp 시점에 만료, 최대 크기 제한
+ * - 메트릭: cache.* (cache=jwt.verified)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtProvider jwtProvider, JwtProperties jwtProperties) {
+        this.jwtProvider = jwtProvider;
+
+        if (Boolean.TRUE.equals(jwtProperties.getAccessTokenCacheEnabled())) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(jwtProperties.getAccessTokenCacheMaxSize())
+                    .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                            remainingLifetime(token)))
+                    .recordStats()
+                    .build();
+            log.info("Access Token cache enabled (max size: {})", jwtProperties.getAccessTokenCacheMaxSize());
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * 캐시를 거쳐 Access Token 검증
+     * 캐시 미스 시 JwtProvider 로 검증하고, 유효한 Access Token만 저장
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (cache == null) {
+            return jwtProvider.verifyToken(token);
+        }
+
+        String key = HashUtil.sha256(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtProvider.verifyToken(token);
+        verified.filter(VerifiedToken::isAccessToken)
+                .ifPresent(verifiedToken -> cache.put(key, verifiedToken));
+        return verified;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 캐시 hit/miss 통계 (비활성 시 empty)
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0L;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified");
+        }
+    }
+
+    private static Duration remainingLifetime(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
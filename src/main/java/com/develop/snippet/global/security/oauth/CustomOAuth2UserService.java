@@ -4,27 +4,59 @@ import com.develop.snippet.domain.user.domain.AuthProvider;
 import com.develop.snippet.domain.user.domain.OAuthAccount;
 import com.develop.snippet.domain.user.domain.User;
 import com.develop.snippet.domain.user.domain.UserRole;
+import com.develop.snippet.domain.user.domain.UserStatus;
 import com.develop.snippet.domain.user.repository.OAuthAccountRepository;
 import com.develop.snippet.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.develop.snippet.domain.user.support.OAuthIdentityCache;
+import com.develop.snippet.domain.user.support.OAuthIdentityCache.LoginIdentity;
+import com.develop.snippet.global.security.jwt.InactiveUserRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * OIDC 로그인 사용자 매핑
+ * 재로그인: 식별 정보 캐시 hit 시 DB 조회 없음, miss 시 join 조회 1회
+ * last_login_at 은 저장된 값이 last-login-write-interval 보다 오래됐을 때만 기록한다.
+ * provider 호출(userinfo)은 트랜잭션 밖에서 수행해 DB 커넥션을 잡고 기다리지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService extends OidcUserService {
 
     private final UserRepository userRepository;
     private final OAuthAccountRepository oAuthAccountRepository;
+    private final OAuthIdentityCache oAuthIdentityCache;
+    private final InactiveUserRegistry inactiveUserRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lastLoginWriteInterval;
+
+    public CustomOAuth2UserService(
+            UserRepository userRepository,
+            OAuthAccountRepository oAuthAccountRepository,
+            OAuthIdentityCache oAuthIdentityCache,
+            InactiveUserRegistry inactiveUserRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.security.oauth2.last-login-write-interval-minutes:5}") long lastLoginWriteIntervalMinutes
+    ) {
+        this.userRepository = userRepository;
+        this.oAuthAccountRepository = oAuthAccountRepository;
+        this.oAuthIdentityCache = oAuthIdentityCache;
+        this.inactiveUserRegistry = inactiveUserRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lastLoginWriteInterval = Duration.ofMinutes(lastLoginWriteIntervalMinutes);
+    }
 
     @Override
-    @Transactional
     public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
         // 1. OAuth2 제공자로부터 사용자 정보 가져오기
         OidcUser oidcUser = super.loadUser(userRequest);
@@ -39,32 +71,51 @@ public class CustomOAuth2UserService extends OidcUserService {
         log.info("OAuth2 Login - Provider: {}, Email: {}, ProviderId: {}",
                 provider, userInfo.getEmail(), userInfo.getProviderId());
 
-        // 4. OAuth 계정 조회 또는 생성
-        OAuthAccount oAuthAccount = oAuthAccountRepository
-                .findByProviderAndProviderSubject(provider, userInfo.getProviderId())
-                .orElseGet(() -> createNewOAuthAccount(userInfo));
+        // 4. 식별 정보 조회 (캐시 -> join 조회), 없으면 가입 처리
+        LoginIdentity identity = oAuthIdentityCache.get(provider, userInfo.getProviderId(), key ->
+                oAuthAccountRepository.findLoginIdentity(provider, userInfo.getProviderId())
+                        .map(LoginIdentity::from)
+                        .orElse(null)
+        );
+        if (identity == null) {
+            identity = transactionTemplate.execute(status -> register(userInfo));
+            oAuthIdentityCache.put(provider, userInfo.getProviderId(), identity);
+        }
 
-        // 5. 마지막 로그인 시간 업데이트
-        oAuthAccount.updateLastLogin();
+        // 4-1. 정지/탈퇴 사용자 로그인 차단
+        if (identity.getStatus() != UserStatus.ACTIVE || inactiveUserRegistry.isInactive(identity.getUserId())) {
+            throw new OAuth2AuthenticationException("정지되었거나 탈퇴한 사용자입니다.");
+        }
 
-        // 6. User 조회
-        User user = userRepository.findById(oAuthAccount.getUserId())
-                .orElseThrow(() -> new OAuth2AuthenticationException("사용자를 찾을 수 없습니다."));
+        // 5. 마지막 로그인 시간 업데이트 (기록이 오래된 경우만)
+        touchLastLogin(provider, userInfo.getProviderId(), identity);
 
-        // 7. OAuthPrincipal 반환
+        // 6. OAuthPrincipal 반환
         return new OAuthPrincipal(
-                user.getId(),
-                user.getEmail(),
-                user.getDisplayName(),
+                identity.getUserId(),
+                identity.getEmail(),
+                identity.getDisplayName(),
                 provider,
-                user.getRole(),
+                identity.getRole(),
                 oidcUser.getAttributes(),
                 oidcUser.getIdToken(),
                 oidcUser.getUserInfo()
         );
     }
 
-    private OAuthAccount createNewOAuthAccount(OAuthUserInfo userInfo) {
+    private void touchLastLogin(AuthProvider provider, String providerSubject, LoginIdentity identity) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.minus(lastLoginWriteInterval);
+        if (!identity.isLastLoginBefore(threshold)) {
+            return;
+        }
+
+        // 다른 노드가 먼저 갱신했으면 0건 (조건부 UPDATE), 어느 쪽이든 캐시는 최신 시각으로
+        oAuthAccountRepository.touchLastLogin(identity.getOauthAccountId(), now, threshold);
+        oAuthIdentityCache.put(provider, providerSubject, identity.withLastLoginAt(now));
+    }
+
+    private LoginIdentity register(OAuthUserInfo userInfo) {
         // 1. User 생성 또는 조회
         User user = userRepository.findByEmail(userInfo.getEmail())
                 .orElseGet(() -> createNewUser(userInfo));
@@ -77,8 +128,9 @@ public class CustomOAuth2UserService extends OidcUserService {
                 .email(userInfo.getEmail())
                 .emailVerified(userInfo.getEmailVerified())
                 .build();
+        oAuthAccount.updateLastLogin();
 
-        return oAuthAccountRepository.save(oAuthAccount);
+        return LoginIdentity.of(oAuthAccountRepository.save(oAuthAccount), user);
     }
 
     private User createNewUser(OAuthUserInfo userInfo) {
@@ -90,4 +142,4 @@ public class CustomOAuth2UserService extends OidcUserService {
 
         return userRepository.save(user);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.develop.snippet.global.security.oauth;
 
 import com.develop.snippet.domain.auth.domain.RefreshToken;
-import com.develop.snippet.domain.auth.repository.RefreshTokenRepository;
+import com.develop.snippet.domain.auth.support.RefreshTokenStateCache;
+import com.develop.snippet.domain.auth.support.RefreshTokenWriter;
 import com.develop.snippet.global.security.jwt.JwtProperties;
 import com.develop.snippet.global.security.jwt.JwtProvider;
+import com.develop.snippet.global.util.ClientIpUtil;
 import com.develop.snippet.global.util.CookieUtil;
 import com.develop.snippet.global.util.HashUtil;
 import jakarta.servlet.ServletException;
@@ -15,7 +17,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
@@ -28,13 +29,13 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final JwtProvider jwtProvider;
     private final JwtProperties jwtProperties;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenWriter refreshTokenWriter;
+    private final RefreshTokenStateCache refreshTokenStateCache;
 
     @Value("${app.security.oauth2.success-redirect-url}")
     private String successRedirectUrl;
 
     @Override
-    @Transactional
     public void onAuthenticationSuccess(
             HttpServletRequest request,
             HttpServletResponse response,
@@ -61,7 +62,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 principal.getUserId(),
                 refreshToken,
                 request.getHeader("User-Agent"),
-                getClientIp(request)
+                ClientIpUtil.getClientIp(request)
         );
 
         // 4. Refresh Token을 HttpOnly 쿠키로 설정
@@ -82,7 +83,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     }
 
     private void saveRefreshToken(Long userId, String refreshToken, String userAgent, String ipAddress) {
-        String tokenHash = HashUtil.sha256(refreshToken);
+        byte[] tokenHash = HashUtil.sha256Bytes(refreshToken);
         LocalDateTime expiresAt = LocalDateTime.now()
                 .plusDays(jwtProperties.getRefreshTokenDays());
 
@@ -94,27 +95,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 .ipAddress(ipAddress)
                 .build();
 
-        refreshTokenRepository.save(refreshTokenEntity);
+        refreshTokenWriter.write(refreshTokenEntity);  // 커밋 완료까지 대기
+        refreshTokenStateCache.putToken(refreshTokenEntity);
         log.debug("Refresh Token saved for userId: {}", userId);
     }
-
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-
-        return ip;
-    }
 }
\ No newline at end of file
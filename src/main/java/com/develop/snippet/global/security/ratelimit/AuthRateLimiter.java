@@ -0,0 +1,68 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 엔드포인트 요청 제한
+ * - IP: refresh/logout/OAuth 로그인 (RateLimitFilter, JWT 검증/DB 조회 전)
+ * - 사용자: 토큰 재발급/전체 로그아웃 (AuthService)
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter userLimiter;
+    private final Counter ipRejectedCounter;
+    private final Counter userRejectedCounter;
+
+    public AuthRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = Boolean.TRUE.equals(properties.getEnabled());
+        this.ipLimiter = new TokenBucketLimiter(
+                properties.getIp().getCapacity(), properties.getIp().getRefillPerSecond(), properties.getMaxKeys());
+        this.userLimiter = new TokenBucketLimiter(
+                properties.getUser().getCapacity(), properties.getUser().getRefillPerSecond(), properties.getMaxKeys());
+
+        this.ipRejectedCounter = rejectedCounter(meterRegistry, "ip");
+        this.userRejectedCounter = rejectedCounter(meterRegistry, "user");
+        meterRegistry.gauge("auth.rate_limit.buckets", ipLimiter, TokenBucketLimiter::size);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 Retry-After (초)
+     */
+    public long acquireIp(String clientIp) {
+        if (!enabled || clientIp == null) {
+            return 0;
+        }
+        return acquire(ipLimiter, clientIp, ipRejectedCounter);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 Retry-After (초)
+     */
+    public long acquireUser(Long userId) {
+        if (!enabled) {
+            return 0;
+        }
+        return acquire(userLimiter, userId, userRejectedCounter);
+    }
+
+    private static long acquire(TokenBucketLimiter limiter, Object key, Counter rejectedCounter) {
+        long waitNanos = limiter.tryAcquireOrWait(key);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rejectedCounter.increment();
+        return TokenBucketLimiter.toRetryAfterSeconds(waitNanos);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.rate_limit.rejected")
+                .description("요청 제한으로 거절된 요청 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
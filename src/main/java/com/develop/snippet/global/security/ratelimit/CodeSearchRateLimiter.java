@@ -0,0 +1,45 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코드 검색 IP 별 요청 제한 (RateLimitFilter)
+ * GET /api/snippets/** 는 permitAll 이라 비로그인 요청도 본문 읽기/정규식 비용을 만들 수 있다.
+ */
+@Component
+public class CodeSearchRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter limiter;
+    private final Counter rejectedCounter;
+
+    public CodeSearchRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = Boolean.TRUE.equals(properties.getEnabled());
+        this.limiter = new TokenBucketLimiter(
+                properties.getCodeSearch().getCapacity(),
+                properties.getCodeSearch().getRefillPerSecond(),
+                properties.getMaxKeys()
+        );
+        this.rejectedCounter = Counter.builder("search.code.rate_limit.rejected")
+                .description("요청 제한으로 거절된 코드 검색 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("search.code.rate_limit.buckets", limiter, TokenBucketLimiter::size);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 Retry-After (초)
+     */
+    public long acquire(String clientIp) {
+        if (!enabled || clientIp == null) {
+            return 0;
+        }
+        long waitNanos = limiter.tryAcquireOrWait(clientIp);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rejectedCounter.increment();
+        return TokenBucketLimiter.toRetryAfterSeconds(waitNanos);
+    }
+}
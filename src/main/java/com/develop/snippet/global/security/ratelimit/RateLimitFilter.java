@@ -0,0 +1,93 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import com.develop.snippet.global.error.ApiErrorCode;
+import com.develop.snippet.global.error.ErrorResponse;
+import com.develop.snippet.global.error.PreEncodedErrorBody;
+import com.develop.snippet.global.util.ClientIpUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * 인증 엔드포인트, 코드 검색 IP 별 요청 제한
+ * JwtAuthenticationFilter 앞에서 실행되어 초과 요청은 JWT 검증/해시/DB 조회 없이 429 로 끝낸다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // permitAll 이라 인증 없이 호출 가능한 경로
+    private static final String[] LIMITED_PATHS = {
+            "/api/auth/refresh",
+            "/api/auth/logout",
+            "/oauth2/authorization/",
+            "/login/oauth2/code/"
+    };
+
+    private static final String CODE_SEARCH_PATH = "/api/snippets/search/code";
+
+    private final AuthRateLimiter authRateLimiter;
+    private final CodeSearchRateLimiter codeSearchRateLimiter;
+    private final PreEncodedErrorBody tooManyRequestsBody;
+
+    public RateLimitFilter(
+            AuthRateLimiter authRateLimiter,
+            CodeSearchRateLimiter codeSearchRateLimiter,
+            ObjectMapper objectMapper
+    ) {
+        this.authRateLimiter = authRateLimiter;
+        this.codeSearchRateLimiter = codeSearchRateLimiter;
+        this.tooManyRequestsBody = ErrorResponse.preEncoded(
+                objectMapper,
+                ApiErrorCode.TOO_MANY_REQUESTS.getStatus(),
+                ApiErrorCode.TOO_MANY_REQUESTS.getMessage()
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.equals(CODE_SEARCH_PATH)) {
+            return false;
+        }
+        for (String path : LIMITED_PATHS) {
+            if (uri.startsWith(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String clientIp = ClientIpUtil.getClientIp(request);
+        long retryAfterSeconds = request.getRequestURI().equals(CODE_SEARCH_PATH)
+                ? codeSearchRateLimiter.acquire(clientIp)
+                : authRateLimiter.acquireIp(clientIp);
+        if (retryAfterSeconds > 0) {
+            log.debug("Rate limited - ip: {}, uri: {}", clientIp, request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            tooManyRequestsBody.writeTo(
+                    response,
+                    ApiErrorCode.TOO_MANY_REQUESTS.getStatus().value(),
+                    ErrorResponse.timestampNow()
+            );
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
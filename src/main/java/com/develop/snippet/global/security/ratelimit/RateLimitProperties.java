@@ -0,0 +1,35 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.security.rate-limit")
+public class RateLimitProperties {
+
+    private Boolean enabled = true;
+    private Long maxKeys = 100_000L;          // IP/사용자별 bucket 최대 개수 (초과 시 오래된 것부터 제거)
+    private Bucket ip = new Bucket(20, 5.0);   // 인증 엔드포인트 (refresh/logout/login)
+    private Bucket user = new Bucket(10, 1.0); // 사용자별 토큰 재발급/전체 로그아웃
+    private Bucket codeSearch = new Bucket(10, 0.5); // IP별 코드 검색 (요청마다 본문을 읽고 정규식을 돌림)
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        private Integer capacity;        // 순간 허용량 (burst)
+        private Double refillPerSecond;  // 초당 충전량
+
+        public Bucket() {
+        }
+
+        public Bucket(Integer capacity, Double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
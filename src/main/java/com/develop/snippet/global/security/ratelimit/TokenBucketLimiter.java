@@ -0,0 +1,88 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * key 별 token bucket (락 없음)
+ * bucket 상태를 "다음 토큰이 생기는 이론 시각(TAT)" long 하나로 표현하고 CAS 로 갱신한다 (GCRA).
+ * - 허용: TAT - now <= (capacity - 1) * interval 이면 TAT += interval
+ * - 거절: 다음 토큰까지 남은 시간 = TAT - now - (capacity - 1) * interval
+ * - bucket 은 가득 찰 시간 동안 접근이 없으면 제거 (제거돼도 가득 찬 상태와 같음), 개수는 maxKeys 로 제한
+ */
+public class TokenBucketLimiter {
+
+    private static final Function<Object, AtomicLong> NEW_BUCKET = key -> new AtomicLong(Long.MIN_VALUE);
+
+    private final long intervalNanos;   // 토큰 1개 충전 간격
+    private final long toleranceNanos;  // burst 허용 폭
+    private final LongSupplier nanoClock;
+    private final Cache<Object, AtomicLong> buckets;
+
+    public TokenBucketLimiter(int capacity, double refillPerSecond, long maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock System.nanoTime 대체 (테스트용)
+     */
+    TokenBucketLimiter(int capacity, double refillPerSecond, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1, refillPerSecond > 0 이어야 합니다.");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .ticker(nanoClock::getAsLong)
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(intervalNanos * capacity))
+                .build();
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(Object key) {
+        return tryAcquireOrWait(key) == 0;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 남은 시간 (ns)
+     */
+    public long tryAcquireOrWait(Object key) {
+        AtomicLong tat = buckets.get(key, NEW_BUCKET);
+        long now = nanoClock.getAsLong();
+
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 대기 시간 -> Retry-After (초 단위 올림, 최소 1)
+     */
+    public static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
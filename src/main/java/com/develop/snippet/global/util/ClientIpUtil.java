@@ -0,0 +1,29 @@
+package com.develop.snippet.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public class ClientIpUtil {
+
+  /**
+   * 클라이언트 IP 추출 (프록시 헤더 우선)
+   */
+  public static String getClientIp(HttpServletRequest request) {
+    String ip = request.getHeader("X-Forwarded-For");
+
+    if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+      ip = request.getHeader("Proxy-Client-IP");
+    }
+    if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+      ip = request.getHeader("WL-Proxy-Client-IP");
+    }
+    if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+      ip = request.getRemoteAddr();
+    }
+
+    if (ip != null && ip.contains(",")) {
+      ip = ip.split(",")[0].trim();
+    }
+
+    return ip;
+  }
+}
@@ -0,0 +1,232 @@
+package com.develop.snippet.global.util;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long -> int 해시 맵 (open addressing, boxing 없음)
+ * 읽기가 압도적으로 많은 경우용: 읽기는 StampedLock optimistic read 로 락 없이 처리하고
+ * 쓰기만 write lock 을 잡는다.
+ * Long.MIN_VALUE 는 빈 슬롯 표시로 사용하므로 key 로 쓸 수 없다.
+ */
+public class ConcurrentLongIntMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private final int defaultValue;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public ConcurrentLongIntMap(int expectedSize, int defaultValue) {
+        this.defaultValue = defaultValue;
+        int capacity = tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2));
+        this.keys = newKeyTable(capacity);
+        this.values = new int[capacity];
+    }
+
+    /**
+     * 값 조회 (없으면 defaultValue)
+     */
+    public int get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        long[] currentKeys = keys;
+        int[] currentValues = values;
+        int result = currentKeys.length == currentValues.length
+                ? find(currentKeys, currentValues, key)
+                : defaultValue;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = find(keys, values, key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    public boolean containsKey(long key) {
+        long stamp = lock.readLock();
+        try {
+            return indexOf(keys, key) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long key, int value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            insert(key, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 기존 값보다 클 때만 저장 (단조 증가 값용)
+     * @return 저장 후 값
+     */
+    public int putMax(long key, int value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(keys, key);
+            if (index >= 0) {
+                if (values[index] < value) {
+                    values[index] = value;
+                }
+                return values[index];
+            }
+            insert(key, value);
+            return value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(keys, key);
+            if (index < 0) {
+                return;
+            }
+            deleteAt(index);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int find(long[] table, int[] tableValues, long key) {
+        int mask = table.length - 1;
+        int index = hash(key) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            long current = table[index];
+            if (current == key) {
+                return tableValues[index];
+            }
+            if (current == EMPTY) {
+                return defaultValue;
+            }
+            index = (index + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    private int indexOf(long[] table, long key) {
+        int mask = table.length - 1;
+        int index = hash(key) & mask;
+        while (true) {
+            long current = table[index];
+            if (current == key) {
+                return index;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    // write lock 안에서만 호출
+    private void insert(long key, int value) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    // backward shift deletion: tombstone 없이 probe 체인을 유지
+    private void deleteAt(int index) {
+        int mask = keys.length - 1;
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            boolean movable = gap <= next
+                    ? home <= gap || home > next
+                    : home <= gap && home > next;
+            if (movable) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        long[] newKeys = newKeyTable(capacity);
+        int[] newValues = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int index = hash(oldKeys[i]) & mask;
+            while (newKeys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            newKeys[index] = oldKeys[i];
+            newValues[index] = oldValues[i];
+        }
+
+        this.keys = newKeys;
+        this.values = newValues;
+    }
+
+    private static long[] newKeyTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+    }
+}
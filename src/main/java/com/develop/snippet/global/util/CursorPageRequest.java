@@ -0,0 +1,36 @@
+package com.develop.snippet.global.util;
+
+import com.develop.snippet.global.util.PageResponse.Cursor;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * keyset 페이지 요청 (query string 바인딩)
+ */
+@Getter
+@Setter
+public class CursorPageRequest {
+
+    // 이전 응답의 nextCursor (첫 페이지는 생략)
+    private String cursor;
+
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "size 는 100 이하여야 합니다.")
+    private int size = 20;
+
+    // 전체 건수 포함 여부 (COUNT 쿼리가 추가되므로 필요한 화면에서만)
+    private boolean withCount = false;
+
+    public Cursor toCursor() {
+        return Cursor.decode(cursor);
+    }
+
+    /**
+     * 다음 페이지 여부 판단용으로 1건 더 조회
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+}
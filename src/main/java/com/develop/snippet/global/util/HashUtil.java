@@ -6,25 +6,59 @@ import java.security.NoSuchAlgorithmException;
 
 public class HashUtil {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // MessageDigest 는 thread-safe 하지 않으므로 호출마다 prototype 을 복제해서 사용
+    // (virtual thread 는 요청마다 새 스레드라 ThreadLocal 재사용이 되지 않음, clone 은 provider 조회보다 저렴)
+    private static final MessageDigest SHA256_PROTOTYPE = newSha256();
+
     /**
-     * SHA-256 해시 생성 (Refresh Token 저장용)
+     * SHA-256 해시 생성 (hex 문자열)
      */
     public static String sha256(String input) {
+        return toHex(sha256Bytes(input));
+    }
+
+    /**
+     * SHA-256 해시 생성 (32 bytes, Refresh Token 저장용)
+     */
+    public static byte[] sha256Bytes(String input) {
+        return sha256Bytes(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 해시 생성 (32 bytes)
+     */
+    public static byte[] sha256Bytes(byte[] input) {
+        return sha256Digest().digest(input);
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return (MessageDigest) SHA256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return newSha256();
+        }
+    }
+
+    private static MessageDigest newSha256() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * bytes -> 소문자 hex 문자열
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            hex[i * 2] = HEX_DIGITS[v >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[v & 0x0f];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,85 @@
+package com.develop.snippet.global.util;
+
+import com.develop.snippet.global.error.ApiErrorCode;
+import com.develop.snippet.global.error.ApiException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(cursor) 페이지 응답
+ * OFFSET 대신 (created_at, id) 내림차순에서 마지막 행 다음부터 읽으므로 깊은 페이지도 비용이 같다.
+ * 전체 건수(COUNT) 는 요청했을 때만 계산한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponse<T> {
+
+    private List<T> items;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 요청에 그대로 전달 (마지막 페이지면 null)
+    private Long totalCount;    // withCount=true 일 때만
+
+    /**
+     * @param rows size + 1 건까지 조회한 결과 (초과분이 있으면 다음 페이지가 있음)
+     * @param cursorOf 행 -> (created_at, id)
+     */
+    public static <T> PageResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf, Long totalCount) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.getLast()).encode() : null;
+        return new PageResponse<>(items, hasNext, nextCursor, totalCount);
+    }
+
+    /**
+     * 항목 변환 (태그 일괄 조회처럼 목록 단위로 변환할 수 있도록 List 를 받는다)
+     */
+    public <R> PageResponse<R> map(Function<List<T>, List<R>> mapper) {
+        return new PageResponse<>(mapper.apply(items), hasNext, nextCursor, totalCount);
+    }
+
+    /**
+     * 마지막으로 본 행의 (created_at, id)
+     * 조회 조건: created_at < :createdAt OR (created_at = :createdAt AND id < :id)
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+
+        // 첫 페이지 (모든 행보다 뒤, MariaDB DATETIME 상한)
+        public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+        private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+        /**
+         * @param value null/빈 값이면 첫 페이지
+         */
+        public static Cursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return FIRST;
+            }
+            try {
+                String decoded = new String(DECODER.decode(value), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                return new Cursor(
+                        LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1))
+                );
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new ApiException(ApiErrorCode.INVALID_INPUT_VALUE, "잘못된 cursor 입니다.");
+            }
+        }
+
+        public String encode() {
+            return ENCODER.encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
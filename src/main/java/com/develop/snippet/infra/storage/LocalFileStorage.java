@@ -0,0 +1,193 @@
+package com.develop.snippet.infra.storage;
+
+import com.develop.snippet.global.util.HashUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 내용 주소(content-addressed) blob 파일 저장소
+ * - 경로: {root}/ab/cd/abcd...(SHA-256 hex).z
+ * - 파일 내용: 원문을 Deflate(zlib) 로 압축한 bytes
+ * 같은 해시는 같은 내용이므로 파일은 한 번 쓰면 바뀌지 않는다.
+ * 참조 수/삭제 시점은 DB(snippet_blobs)가 관리하고, 여기서는 파일 I/O 만 담당한다.
+ * 저장 형식이 zlib 이므로 HTTP Content-Encoding: deflate 본문으로 그대로 보낼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalFileStorage {
+
+    private static final String EXTENSION = ".z";
+
+    private final StorageProperties storageProperties;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(storageProperties.getRoot()).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("Local blob storage: {}", root);
+    }
+
+    public boolean exists(byte[] hash) {
+        return Files.exists(resolve(hash));
+    }
+
+    /**
+     * 압축된 blob 쓰기 (임시 파일 -> rename, 읽는 쪽은 완성된 파일만 봄)
+     * 같은 해시를 동시에 써도 내용이 같으므로 어느 쪽 파일이 남아도 된다.
+     */
+    public void write(byte[] hash, byte[] compressed) {
+        Path target = resolve(hash);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            Files.write(temp, compressed);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (FileAlreadyExistsException e) {
+            log.debug("Blob already written: {}", target.getFileName());
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 저장 실패: " + target.getFileName(), e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 원문 읽기 (압축 해제 스트림)
+     */
+    public InputStream openContent(byte[] hash) {
+        try {
+            return new InflaterInputStream(Files.newInputStream(resolve(hash)));
+        } catch (NoSuchFileException e) {
+            throw new UncheckedIOException("blob 파일 없음: " + HashUtil.toHex(hash), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 읽기 실패: " + HashUtil.toHex(hash), e);
+        }
+    }
+
+    public byte[] readContent(byte[] hash) {
+        try (InputStream inputStream = openContent(hash)) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 읽기 실패: " + HashUtil.toHex(hash), e);
+        }
+    }
+
+    /**
+     * 압축된 파일 구간을 그대로 전송 (FileChannel.transferTo, heap 에 올리지 않음)
+     * @return 전송한 bytes
+     */
+    public long transferStored(byte[] hash, long position, long count, WritableByteChannel target) {
+        try (FileChannel channel = FileChannel.open(resolve(hash), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;  // 파일이 예상보다 짧음
+                }
+                transferred += written;
+            }
+            return transferred;
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 전송 실패: " + HashUtil.toHex(hash), e);
+        }
+    }
+
+    /**
+     * 원문 구간을 압축 해제하며 전송 (고정 크기 buffer 만 사용)
+     */
+    public void transferContent(byte[] hash, long offset, long count, OutputStream target) {
+        try (InputStream inputStream = openContent(hash)) {
+            inputStream.skipNBytes(offset);
+            byte[] buffer = new byte[8192];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                target.write(buffer, 0, read);
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 전송 실패: " + HashUtil.toHex(hash), e);
+        }
+    }
+
+    /**
+     * 압축된 파일 경로 (servlet 컨테이너 sendfile 용, 파일은 쓰기 후 바뀌지 않음)
+     */
+    public Path storedPath(byte[] hash) {
+        return resolve(hash);
+    }
+
+    public void delete(byte[] hash) {
+        try {
+            Files.deleteIfExists(resolve(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 삭제 실패: " + HashUtil.toHex(hash), e);
+        }
+    }
+
+    /**
+     * Deflate 압축 (Deflater 는 native 메모리를 쓰므로 사용 후 바로 end)
+     */
+    public byte[] compress(byte[] content) {
+        Deflater deflater = new Deflater(storageProperties.getCompressionLevel());
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    Path resolve(byte[] hash) {
+        String hex = HashUtil.toHex(hash);
+        return root.resolve(hex.substring(0, 2))
+                .resolve(hex.substring(2, 4))
+                .resolve(hex + EXTENSION);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 blob 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
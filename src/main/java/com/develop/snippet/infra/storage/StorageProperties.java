@@ -0,0 +1,28 @@
+package com.develop.snippet.infra.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageProperties {
+
+    private String root = "./data/storage";         // blob 파일 루트 디렉터리
+    private Integer compressionLevel = 6;           // Deflate 압축 레벨 (1 빠름 ~ 9 작음)
+    private Integer maxContentBytes = 5 * 1024 * 1024;  // 스니펫 본문 최대 크기 (UTF-8 기준)
+    private Gc gc = new Gc();
+
+    @Getter
+    @Setter
+    public static class Gc {
+
+        private Boolean enabled = true;
+        private String cron = "0 0 5 * * *";
+        private Integer graceMinutes = 60;  // 참조가 0 이 된 뒤 삭제까지 대기 (같은 내용 재저장 시 재사용)
+        private Integer chunkSize = 500;
+    }
+}
@@ -0,0 +1,141 @@
+package com.develop.snippet.domain.auth;
+
+import com.develop.snippet.domain.auth.dto.request.RefreshRequest;
+import com.develop.snippet.domain.auth.dto.response.TokenResponse;
+import com.develop.snippet.domain.auth.service.AuthService;
+import com.develop.snippet.domain.user.domain.User;
+import com.develop.snippet.domain.user.support.OAuthIdentityCache;
+import com.develop.snippet.global.security.oauth.CustomOAuth2UserService;
+import com.develop.snippet.global.security.oauth.OAuth2SuccessHandler;
+import com.develop.snippet.global.security.oauth.OAuthPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인/재발급 경로에서 Hibernate 가 실행하는 SQL 수 (prod 프로필의 Hibernate 설정 + H2)
+ * 캐시가 채워진 뒤의 반복 요청이 추가 조회 없이 처리되는지 확인한다.
+ * DB 는 H2 이므로 prod 의 MariaDB 드라이버 설정(useServerPrepStmts/cachePrepStmts 등
+ * data-source-properties)은 검증하지 않는다. 여기서 세는 것은 드라이버 캐시와 무관한 statement 실행 수다.
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+class AuthStatementCountTests {
+
+	@Autowired
+	private CustomOAuth2UserService customOAuth2UserService;
+
+	@Autowired
+	private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+	@Autowired
+	private OAuthIdentityCache oAuthIdentityCache;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private ClientRegistrationRepository clientRegistrationRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void repeatLoginUsesCachedIdentity() throws Exception {
+		// 가입 (식별 정보 캐시 적재)
+		login("login-user");
+
+		// 캐시 hit + last_login_at 최신: Refresh Token INSERT 만
+		statistics.clear();
+		login("login-user");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+		// 캐시 miss: join 조회 1회 + Refresh Token INSERT
+		OAuthPrincipal principal = login("login-user").principal();
+		oAuthIdentityCache.invalidateUser(principal.getUserId());
+		statistics.clear();
+		login("login-user");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void refreshIsConsumeAndInsert() throws Exception {
+		String refreshToken = login("refresh-user").refreshToken();
+
+		// 첫 재발급: 사용자 캐시/2차 캐시 모두 비어 있음 -> 조건부 UPDATE + 사용자 조회 + 새 토큰 INSERT
+		entityManagerFactory.getCache().evict(User.class);
+		statistics.clear();
+		refreshToken = refresh(refreshToken);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+		// 사용자 캐시 hit: 조건부 UPDATE(소비) + 새 토큰 INSERT
+		statistics.clear();
+		refresh(refreshToken);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private LoginResult login(String subject) throws Exception {
+		// userinfo endpoint 를 비워 provider 호출 없이 id_token claim 만 사용
+		ClientRegistration google = ClientRegistration
+				.withClientRegistration(clientRegistrationRepository.findByRegistrationId("google"))
+				.userInfoUri(null)
+				.build();
+		Instant now = Instant.now();
+		OidcIdToken idToken = OidcIdToken.withTokenValue("id-token")
+				.subject(subject)
+				.claim("email", subject + "@test.local")
+				.claim("email_verified", true)
+				.claim("name", subject)
+				.issuedAt(now)
+				.expiresAt(now.plusSeconds(60))
+				.build();
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(
+				OAuth2AccessToken.TokenType.BEARER, "access-token", now, now.plusSeconds(60));
+
+		OAuthPrincipal principal = (OAuthPrincipal) customOAuth2UserService.loadUser(
+				new OidcUserRequest(google, accessToken, idToken));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		oAuth2SuccessHandler.onAuthenticationSuccess(
+				new MockHttpServletRequest(),
+				response,
+				new OAuth2AuthenticationToken(principal, principal.getAuthorities(), "google"));
+		return new LoginResult(principal, response.getCookie("REFRESH_TOKEN").getValue());
+	}
+
+	private String refresh(String refreshToken) {
+		RefreshRequest request = new RefreshRequest();
+		ReflectionTestUtils.setField(request, "refreshToken", refreshToken);
+		TokenResponse response = authService.refreshAccessToken(
+				request, new MockHttpServletRequest(), new MockHttpServletResponse());
+		return response.getRefreshToken();
+	}
+
+	private record LoginResult(OAuthPrincipal principal, String refreshToken) {
+	}
+}
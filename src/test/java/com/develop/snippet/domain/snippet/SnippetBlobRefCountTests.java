@@ -0,0 +1,137 @@
+package com.develop.snippet.domain.snippet;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.domain.snippet.domain.SnippetVisibility;
+import com.develop.snippet.domain.snippet.dto.request.SnippetCreateRequest;
+import com.develop.snippet.domain.snippet.dto.response.SnippetResponse;
+import com.develop.snippet.domain.snippet.repository.SnippetRepository;
+import com.develop.snippet.domain.snippet.service.SnippetBlobService;
+import com.develop.snippet.domain.snippet.service.SnippetService;
+import com.develop.snippet.domain.snippet.support.SnippetBlobGcJob;
+import com.develop.snippet.global.util.HashUtil;
+import com.develop.snippet.infra.storage.LocalFileStorage;
+import com.develop.snippet.infra.storage.StorageProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내용 주소 blob 참조 수 (중복 제거 -> 참조 해제 -> 유예 시간 뒤 GC)
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+class SnippetBlobRefCountTests {
+
+	@Autowired
+	private SnippetService snippetService;
+
+	@Autowired
+	private SnippetBlobService snippetBlobService;
+
+	@Autowired
+	private SnippetRepository snippetRepository;
+
+	@Autowired
+	private SnippetBlobGcJob snippetBlobGcJob;
+
+	@Autowired
+	private LocalFileStorage localFileStorage;
+
+	@Autowired
+	private StorageProperties storageProperties;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void sameContentIsStoredOnceAndCountedPerSnippet() {
+		String content = "dedupe-" + UUID.randomUUID();
+		byte[] hash = HashUtil.sha256Bytes(content.getBytes(StandardCharsets.UTF_8));
+
+		SnippetResponse first = snippetService.create(1L, createRequest(content));
+		SnippetResponse second = snippetService.create(2L, createRequest(content));
+
+		assertThat(first.getSnippetId()).isNotEqualTo(second.getSnippetId());
+		assertThat(blobRows(hash)).isEqualTo(1);
+		assertThat(refCount(hash)).isEqualTo(2);
+		assertThat(localFileStorage.exists(hash)).isTrue();
+
+		// 한쪽 삭제: 다른 스니펫이 참조 중이므로 파일 유지
+		snippetService.delete(1L, first.getSnippetId());
+		assertThat(refCount(hash)).isEqualTo(1);
+		assertThat(snippetBlobService.deleteIfUnreferenced(hash)).isFalse();
+		assertThat(snippetService.get(second.getSnippetId(), 2L).getContent()).isEqualTo(content);
+	}
+
+	@Test
+	void releaseStopsAtZero() {
+		byte[] content = ("release-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+		byte[] hash = snippetBlobService.acquire(content);
+
+		snippetBlobService.release(hash);
+		assertThat(refCount(hash)).isZero();
+
+		// 중복 해제가 음수를 만들지 않음
+		snippetBlobService.release(hash);
+		assertThat(refCount(hash)).isZero();
+
+		// 0 이 된 뒤 같은 내용이 다시 저장되면 기존 행/파일 재사용
+		assertThat(snippetBlobService.acquire(content)).isEqualTo(hash);
+		assertThat(blobRows(hash)).isEqualTo(1);
+		assertThat(refCount(hash)).isEqualTo(1);
+	}
+
+	@Test
+	void gcCollectsOnlyAfterGracePeriod() {
+		String content = "gc-" + UUID.randomUUID();
+		byte[] hash = HashUtil.sha256Bytes(content.getBytes(StandardCharsets.UTF_8));
+		SnippetResponse snippet = snippetService.create(1L, createRequest(content));
+		snippetService.delete(1L, snippet.getSnippetId());
+		assertThat(snippetRepository.findById(snippet.getSnippetId())).isEmpty();
+		assertThat(refCount(hash)).isZero();
+
+		// 유예 시간(기본 60분) 안에는 남김
+		snippetBlobGcJob.collect();
+		assertThat(blobRows(hash)).isEqualTo(1);
+		assertThat(localFileStorage.exists(hash)).isTrue();
+
+		Integer graceMinutes = storageProperties.getGc().getGraceMinutes();
+		storageProperties.getGc().setGraceMinutes(0);
+		try {
+			snippetBlobGcJob.collect();
+		} finally {
+			storageProperties.getGc().setGraceMinutes(graceMinutes);
+		}
+		assertThat(blobRows(hash)).isZero();
+		assertThat(localFileStorage.exists(hash)).isFalse();
+	}
+
+	private SnippetCreateRequest createRequest(String content) {
+		SnippetCreateRequest request = new SnippetCreateRequest();
+		ReflectionTestUtils.setField(request, "title", "blob test");
+		ReflectionTestUtils.setField(request, "language", SnippetLanguage.PLAIN_TEXT);
+		ReflectionTestUtils.setField(request, "visibility", SnippetVisibility.PRIVATE);
+		ReflectionTestUtils.setField(request, "content", content);
+		ReflectionTestUtils.setField(request, "tags", List.of());
+		return request;
+	}
+
+	private int blobRows(byte[] hash) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM snippet_blobs WHERE blob_hash = ?", Integer.class, hash);
+	}
+
+	private int refCount(byte[] hash) {
+		return jdbcTemplate.queryForObject(
+				"SELECT ref_count FROM snippet_blobs WHERE blob_hash = ?", Integer.class, hash);
+	}
+}
@@ -0,0 +1,109 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import com.develop.snippet.infra.storage.StorageProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키 동시 요청은 한 번만 렌더, 실패한 결과는 캐시에 남지 않음 (디스크 캐시는 끔)
+ */
+class SnippetRenderCacheTests {
+
+	private static final RenderKey KEY = RenderKey.of(new byte[32], SnippetLanguage.JAVA);
+	private static final byte[] CONTENT = "class A {}".getBytes(StandardCharsets.UTF_8);
+
+	private final RenderProperties properties = new RenderProperties();
+	private final SnippetRenderCache cache = new SnippetRenderCache(
+			new SyntaxHighlighter(),
+			new RenderSpillStore(properties, new StorageProperties()),
+			properties,
+			new SimpleMeterRegistry());
+
+	@Test
+	void rendersOnceUnderConcurrentGets() throws Exception {
+		int threads = 8;
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<byte[]> loader = () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			await(release);
+			return CONTENT;
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<byte[]>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					await(start);
+					return cache.get(KEY, loader);
+				}));
+			}
+			start.countDown();
+			assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+			// 렌더 중인 동안 나머지 요청이 같은 Future 를 기다리도록 잠깐 붙잡음
+			Thread.sleep(100);
+			release.countDown();
+
+			byte[] first = results.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<byte[]> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(first);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(cache.get(KEY, () -> {
+			throw new AssertionError("cached result expected");
+		})).isNotNull();
+	}
+
+	@Test
+	void retriesAfterFailure() {
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThatThrownBy(() -> cache.get(KEY, () -> {
+			loads.incrementAndGet();
+			throw new IllegalStateException("blob missing");
+		})).isInstanceOf(IllegalStateException.class).hasMessageContaining("blob missing");
+
+		// 실패한 Future 는 제거되어 다음 요청이 다시 렌더
+		byte[] html = cache.get(KEY, () -> {
+			loads.incrementAndGet();
+			return CONTENT;
+		});
+
+		assertThat(new String(html, StandardCharsets.UTF_8)).contains("<span class=\"tok-kw\">class</span> A {}");
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("latch timeout");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
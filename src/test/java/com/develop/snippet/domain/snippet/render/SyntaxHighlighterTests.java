@@ -0,0 +1,55 @@
+package com.develop.snippet.domain.snippet.render;
+
+import com.develop.snippet.domain.snippet.domain.SnippetLanguage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 종류(주석/문자열/키워드)와 관계없이 본문이 escape 되는지
+ */
+class SyntaxHighlighterTests {
+
+	private final SyntaxHighlighter highlighter = new SyntaxHighlighter();
+
+	@Test
+	void escapesLineAndBlockComments() {
+		String html = render("// <script>alert('x')</script> & \"q\"\n/* </code></pre><img src=x> */", SnippetLanguage.JAVA);
+
+		assertThat(html).contains(
+				"<span class=\"tok-com\">// &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;q&quot;</span>",
+				"<span class=\"tok-com\">/* &lt;/code&gt;&lt;/pre&gt;&lt;img src=x&gt; */</span>");
+		assertThat(html).doesNotContain("<script>", "<img", "</code></pre><");
+	}
+
+	@Test
+	void escapesStringsIncludingQuotes() {
+		String html = render("var s = \"<b onclick=\\\"x\\\">&amp;</b>\";", SnippetLanguage.JAVASCRIPT);
+
+		assertThat(html).contains(
+				"<span class=\"tok-str\">&quot;&lt;b onclick=\\&quot;x\\&quot;&gt;&amp;amp;&lt;/b&gt;&quot;</span>");
+		assertThat(html).doesNotContain("<b", "onclick=\"");
+	}
+
+	@Test
+	void escapesAroundKeywords() {
+		String html = render("if (a < b && c > d) return a;", SnippetLanguage.JAVA);
+
+		assertThat(html).contains(
+				"<span class=\"tok-kw\">if</span> (a &lt; b &amp;&amp; c &gt; d) <span class=\"tok-kw\">return</span> a;");
+	}
+
+	@Test
+	void escapesUnknownLanguagesWithoutSpans() {
+		String html = render("<div class='x'>\"a\" & b</div>", SnippetLanguage.PLAIN_TEXT);
+
+		assertThat(html).isEqualTo("<pre class=\"snippet language-plain-text\"><code>"
+				+ "&lt;div class=&#39;x&#39;&gt;&quot;a&quot; &amp; b&lt;/div&gt;</code></pre>");
+	}
+
+	private String render(String content, SnippetLanguage language) {
+		return new String(highlighter.render(content.getBytes(StandardCharsets.UTF_8), language), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,53 @@
+package com.develop.snippet.domain.snippet.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 본문 확인 시간 상한 (스니펫별 regex-timeout, 요청 전체 budget)
+ */
+class CodeQueryTests {
+
+	// backtracking 이 폭주하는 정규식
+	private static final String CATASTROPHIC = "(.*a){20}b";
+	private static final String CONTENT = "a".repeat(64);
+
+	@Test
+	void literalAndRegexMatch() {
+		CodeSearchBudget budget = CodeSearchBudget.start(1000, 1024);
+
+		assertThat(CodeQuery.literal("getUserId").matches("Long getUserId()", budget)).isTrue();
+		assertThat(CodeQuery.literal("getUserId").matches("Long getuserid()", budget)).isFalse();
+		assertThat(CodeQuery.regex("get\\w+Id", 100).matches("getSnippetId", budget)).isTrue();
+	}
+
+	@Test
+	void snippetTimeoutCountsAsNoMatch() {
+		CodeSearchBudget budget = CodeSearchBudget.start(60_000, 1024);
+
+		assertThat(CodeQuery.regex(CATASTROPHIC, 20).matches(CONTENT, budget)).isFalse();
+		assertThat(budget.isExpired()).isFalse();
+	}
+
+	@Test
+	void requestDeadlineStopsTheSearch() {
+		CodeSearchBudget budget = CodeSearchBudget.start(20, 1024);
+
+		assertThatThrownBy(() -> CodeQuery.regex(CATASTROPHIC, 60_000).matches(CONTENT, budget))
+				.isInstanceOf(CodeSearchBudget.ExhaustedException.class);
+		assertThat(budget.isExpired()).isTrue();
+		assertThat(budget.allows(0)).isFalse();
+	}
+
+	@Test
+	void byteBudgetLimitsContentReads() {
+		CodeSearchBudget budget = CodeSearchBudget.start(60_000, 100);
+
+		assertThat(budget.allows(100)).isTrue();
+		budget.charge(60);
+		assertThat(budget.allows(40)).isTrue();
+		assertThat(budget.allows(41)).isFalse();
+	}
+}
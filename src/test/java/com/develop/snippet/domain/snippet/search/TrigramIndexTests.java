@@ -0,0 +1,139 @@
+package com.develop.snippet.domain.snippet.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pending/removed 가 병합 전후로 같은 후보를 내는지, 저장 상태를 다시 읽는지
+ */
+class TrigramIndexTests {
+
+	private Path indexDir;
+	private SnippetSearchProperties properties;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		indexDir = Files.createTempDirectory("trigram-index-test");
+		properties = new SnippetSearchProperties();
+		properties.setIndexDir(indexDir.toString());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(indexDir)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+	@Test
+	void pendingAddsAndRemovalsMatchBeforeAndAfterMerge() {
+		TrigramIndex index = newIndex();
+		index.put(1L, bytes("String getUserId()"));
+		index.put(2L, bytes("long getUserId = 0;"));
+		index.put(3L, bytes("void setUserId()"));
+		index.merge();
+
+		// 병합된 base 위에 수정(1), 삭제(2), 추가(4)
+		index.put(1L, bytes("String getName()"));
+		index.remove(2L);
+		index.put(4L, bytes("Long getUserId(User user)"));
+
+		assertThat(index.candidates(CodeQuery.literal("getUserId"), null)).isEqualTo(new long[]{4L});
+		assertThat(index.candidates(CodeQuery.literal("UserId"), null)).isEqualTo(new long[]{4L, 3L});
+
+		index.merge();
+		assertThat(index.candidates(CodeQuery.literal("getUserId"), null)).isEqualTo(new long[]{4L});
+		assertThat(index.candidates(CodeQuery.literal("UserId"), null)).isEqualTo(new long[]{4L, 3L});
+		assertThat(index.candidates(CodeQuery.literal("getName"), null)).isEqualTo(new long[]{1L});
+	}
+
+	@Test
+	void candidatesAreNewestFirstBelowCursor() {
+		TrigramIndex index = newIndex();
+		for (long id = 1; id <= 5; id++) {
+			index.put(id, bytes("return value;"));
+		}
+		index.merge();
+		index.put(6L, bytes("return value;"));
+
+		assertThat(index.candidates(CodeQuery.literal("value"), null)).isEqualTo(new long[]{6L, 5L, 4L, 3L, 2L, 1L});
+		assertThat(index.candidates(CodeQuery.literal("value"), 4L)).isEqualTo(new long[]{3L, 2L, 1L});
+	}
+
+	@Test
+	void clearDropsBaseAndPending() {
+		TrigramIndex index = newIndex();
+		index.put(1L, bytes("return value;"));
+		index.merge();
+		index.put(2L, bytes("return value;"));
+
+		index.clear();
+		assertThat(index.candidates(CodeQuery.literal("value"), null)).isEqualTo(new long[0]);
+
+		// 비운 뒤 다시 색인한 스니펫만 후보
+		index.put(2L, bytes("return value;"));
+		assertThat(index.candidates(CodeQuery.literal("value"), null)).isEqualTo(new long[]{2L});
+	}
+
+	@Test
+	void mergesOnlyAfterPendingBytesThreshold() {
+		properties.setTrigramMergeThresholdBytes(Long.MAX_VALUE);
+		TrigramIndex index = newIndex();
+		index.put(1L, bytes("abcdef"));
+		index.mergeIfNeeded();
+		assertThat(index.pendingBytes()).isPositive();
+
+		properties.setTrigramMergeThresholdBytes(1L);
+		index.mergeIfNeeded();
+		assertThat(index.pendingBytes()).isZero();
+	}
+
+	@Test
+	void restoresPersistedStateWithWatermark() {
+		LocalDateTime upTo = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+		TrigramIndex index = newIndex();
+		index.init();
+		assertThat(index.getLoadedUpTo()).isNull();
+
+		index.put(1L, bytes("merged into base"));
+		index.put(2L, bytes("removed from base"));
+		index.merge();
+		index.put(3L, bytes("still pending"));
+		index.remove(2L);
+		index.persist(upTo);
+
+		TrigramIndex restored = newIndex();
+		restored.init();
+		assertThat(restored.getLoadedUpTo()).isEqualTo(upTo);
+		assertThat(restored.candidates(CodeQuery.literal("base"), null)).isEqualTo(new long[]{1L});
+		assertThat(restored.candidates(CodeQuery.literal("pending"), null)).isEqualTo(new long[]{3L});
+
+		// watermark 없이 저장하면 다음 기동은 전체 재색인
+		restored.persist(null);
+		TrigramIndex rebuilt = newIndex();
+		rebuilt.init();
+		assertThat(rebuilt.getLoadedUpTo()).isNull();
+	}
+
+	private TrigramIndex newIndex() {
+		return new TrigramIndex(properties, new SimpleMeterRegistry());
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
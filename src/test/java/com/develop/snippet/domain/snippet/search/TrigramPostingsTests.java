@@ -0,0 +1,103 @@
+package com.develop.snippet.domain.snippet.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 posting (delta varint 인코딩, 병합, 저장/복원)
+ */
+class TrigramPostingsTests {
+
+	private static final int A = Trigrams.pack((byte) 'a', (byte) 'b', (byte) 'c');
+	private static final int B = Trigrams.pack((byte) 'b', (byte) 'c', (byte) 'd');
+	private static final int C = Trigrams.pack((byte) 'x', (byte) 'y', (byte) 'z');
+
+	@Test
+	void roundTripsIdsAcrossVarintBoundaries() {
+		// delta 가 1 byte (< 2^7), 2 byte (< 2^14), 최대 id 까지
+		long[] ids = {0L, 1L, 127L, 128L, 255L, 16_511L, 16_512L, 1L << 35, TrigramPostings.MAX_ID};
+		Map<Long, int[]> added = new HashMap<>();
+		for (long id : ids) {
+			added.put(id, new int[]{A});
+		}
+
+		TrigramPostings postings = TrigramPostings.merge(TrigramPostings.EMPTY, Set.of(), added);
+
+		assertThat(postings.postings(A)).isEqualTo(ids);
+		assertThat(postings.count(A)).isEqualTo(ids.length);
+		assertThat(postings.postings(B)).isEmpty();
+		assertThat(postings.count(B)).isZero();
+	}
+
+	@Test
+	void mergeAppliesPendingAddsAndRemovals() {
+		TrigramPostings base = TrigramPostings.merge(TrigramPostings.EMPTY, Set.of(), Map.of(
+				1L, new int[]{A, B},
+				2L, new int[]{A},
+				5L, new int[]{A, C},
+				9L, new int[]{C}
+		));
+
+		// 1: 내용 변경 (TrigramIndex.put 은 기존 posting 무효화를 위해 removed 에도 넣는다), 5/9: 삭제, 3/7: 추가
+		TrigramPostings merged = TrigramPostings.merge(base, Set.of(1L, 5L, 9L), Map.of(
+				1L, new int[]{C},
+				3L, new int[]{A, B},
+				7L, new int[]{A}
+		));
+
+		assertThat(merged.postings(A)).isEqualTo(new long[]{2L, 3L, 7L});
+		assertThat(merged.postings(B)).isEqualTo(new long[]{3L});
+		assertThat(merged.postings(C)).isEqualTo(new long[]{1L});
+		assertThat(merged.trigramCount()).isEqualTo(3);
+
+		// 모든 id 가 빠진 트라이그램은 남지 않음
+		TrigramPostings emptied = TrigramPostings.merge(merged, Set.of(1L), Map.of());
+		assertThat(emptied.count(C)).isZero();
+		assertThat(emptied.trigramCount()).isEqualTo(2);
+	}
+
+	@Test
+	void mergeSortsAddedIdsIntoExistingPostings() {
+		TrigramPostings base = TrigramPostings.merge(TrigramPostings.EMPTY, Set.of(), Map.of(
+				10L, new int[]{A},
+				30L, new int[]{A}
+		));
+
+		TrigramPostings merged = TrigramPostings.merge(base, Set.of(), Map.of(
+				20L, new int[]{A},
+				5L, new int[]{A},
+				40L, new int[]{A}
+		));
+
+		assertThat(merged.postings(A)).isEqualTo(new long[]{5L, 10L, 20L, 30L, 40L});
+	}
+
+	@Test
+	void writesAndReadsBack() throws IOException {
+		TrigramPostings postings = TrigramPostings.merge(TrigramPostings.EMPTY, Set.of(), Map.of(
+				1L, new int[]{A, B},
+				1L << 20, new int[]{B, C},
+				TrigramPostings.MAX_ID, new int[]{A}
+		));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		postings.writeTo(new DataOutputStream(bytes));
+		TrigramPostings read = TrigramPostings.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(read.trigramCount()).isEqualTo(postings.trigramCount());
+		assertThat(read.sizeInBytes()).isEqualTo(postings.sizeInBytes());
+		for (int trigram : new int[]{A, B, C}) {
+			assertThat(read.postings(trigram)).isEqualTo(postings.postings(trigram));
+		}
+	}
+}
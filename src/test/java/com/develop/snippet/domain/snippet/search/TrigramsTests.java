@@ -0,0 +1,84 @@
+package com.develop.snippet.domain.snippet.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정규식 -> 필수 트라이그램 (후보에서 실제 매치가 빠지면 안 됨)
+ */
+class TrigramsTests {
+
+	@Test
+	void literalNeedsAllOfItsTrigrams() {
+		assertThat(Trigrams.ofLiteral("getUserId")).isEqualTo(Trigrams.of(bytes("getUserId")));
+		assertThat(Trigrams.ofLiteral("ab")).isEmpty();
+	}
+
+	@Test
+	void alternationIsNotNarrowed() {
+		assertThat(Trigrams.ofRegex("foo|bar")).isEmpty();
+		assertThat(Trigrams.ofRegex("prefix(abc|xyz)")).isEmpty();
+	}
+
+	@Test
+	void optionalAndRepeatedCharactersAreDropped() {
+		assertNoFalseNegative("colou?r", "color", "colour");
+		assertNoFalseNegative("abcd*ef", "abcef", "abcdddef");
+		assertNoFalseNegative("abc{0,2}xyz", "abxyz", "abccxyz");
+		assertNoFalseNegative("hello+world", "helloworld", "hellooooworld");
+		assertNoFalseNegative("(abc)?defgh", "defgh", "abcdefgh");
+		assertNoFalseNegative("\\.*config", "config", "...config");
+	}
+
+	@Test
+	void characterClassesBreakLiterals() {
+		assertNoFalseNegative("get[A-Z]serId", "getUserId", "getXserId");
+		assertNoFalseNegative("log[.]info", "log.info");
+		assertNoFalseNegative("[^a]bcdef", "xbcdef");
+		assertNoFalseNegative("max\\d+value", "max10value");
+		assertNoFalseNegative("public\\s+static", "public  static");
+	}
+
+	@Test
+	void shortLiteralsAreNotNarrowed() {
+		assertThat(Trigrams.ofRegex("ab")).isEmpty();
+		assertThat(Trigrams.ofRegex("a.b.c")).isEmpty();
+		assertThat(Trigrams.ofRegex("ab?c")).isEmpty();
+		assertThat(Trigrams.ofRegex("[abc]+")).isEmpty();
+	}
+
+	@Test
+	void flagsAndLookaroundsAreNotNarrowed() {
+		assertThat(Trigrams.ofRegex("(?i)select")).isEmpty();
+		assertThat(Trigrams.ofRegex("(?=abc)abcdef")).isEmpty();
+		assertThat(Trigrams.ofRegex("\\x41BCD")).isEmpty();
+		assertThat(Trigrams.ofRegex("\\Qa.b\\E")).isEmpty();
+	}
+
+	@Test
+	void escapedAndMultiByteLiteralsAreKept() {
+		assertNoFalseNegative("a\\.b\\(c\\)", "a.b(c)");
+		assertNoFalseNegative("한글검색", "한글검색");
+		assertNoFalseNegative("한글?검색", "한검색", "한글검색");
+		assertThat(Trigrams.ofRegex("a\\.b\\(c\\)")).isNotEmpty();
+	}
+
+	/**
+	 * 정규식이 매치하는 본문은 모두 필수 트라이그램을 포함해야 한다
+	 */
+	private static void assertNoFalseNegative(String regex, String... matchingContents) {
+		int[] required = Trigrams.ofRegex(regex);
+		for (String content : matchingContents) {
+			assertThat(Pattern.compile(regex).matcher(content).find()).isTrue();
+			assertThat(Trigrams.containsAll(Trigrams.of(bytes(content)), required)).isTrue();
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,74 @@
+package com.develop.snippet.domain.snippet.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Range 해석 ({start, end} -> 206, 빈 배열 -> 무시하고 200, null -> 416)
+ */
+class SnippetRawWriterTests {
+
+	private static final long LENGTH = 100;
+
+	@Test
+	void parsesClosedRange() {
+		assertThat(SnippetRawWriter.parseRange("bytes=0-9", LENGTH)).isEqualTo(new long[]{0, 9});
+		assertThat(SnippetRawWriter.parseRange("bytes=10-10", LENGTH)).isEqualTo(new long[]{10, 10});
+		assertThat(SnippetRawWriter.parseRange("Bytes=0-0", LENGTH)).isEqualTo(new long[]{0, 0});
+	}
+
+	@Test
+	void parsesSuffixRange() {
+		assertThat(SnippetRawWriter.parseRange("bytes=-10", LENGTH)).isEqualTo(new long[]{90, 99});
+		// 길이보다 긴 suffix 는 전체
+		assertThat(SnippetRawWriter.parseRange("bytes=-500", LENGTH)).isEqualTo(new long[]{0, 99});
+		// suffix 0, 빈 본문은 만족할 수 없음
+		assertThat(SnippetRawWriter.parseRange("bytes=-0", LENGTH)).isNull();
+		assertThat(SnippetRawWriter.parseRange("bytes=-5", 0)).isNull();
+	}
+
+	@Test
+	void parsesOpenEndedRange() {
+		assertThat(SnippetRawWriter.parseRange("bytes=90-", LENGTH)).isEqualTo(new long[]{90, 99});
+		assertThat(SnippetRawWriter.parseRange("bytes=0-", LENGTH)).isEqualTo(new long[]{0, 99});
+	}
+
+	@Test
+	void clampsOrRejectsRangesPastEnd() {
+		assertThat(SnippetRawWriter.parseRange("bytes=50-999", LENGTH)).isEqualTo(new long[]{50, 99});
+		assertThat(SnippetRawWriter.parseRange("bytes=100-", LENGTH)).isNull();
+		assertThat(SnippetRawWriter.parseRange("bytes=100-200", LENGTH)).isNull();
+		assertThat(SnippetRawWriter.parseRange("bytes=0-", 0)).isNull();
+	}
+
+	@Test
+	void ignoresMultipleRanges() {
+		assertThat(SnippetRawWriter.parseRange("bytes=0-9,20-29", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=-5,0-1", LENGTH)).isEmpty();
+	}
+
+	@Test
+	void ignoresMalformedRanges() {
+		assertThat(SnippetRawWriter.parseRange("bytes=--5", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=-+5", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=+5-10", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=5--10", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=9-3", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=150-3", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=-", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=a-b", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=99999999999999999999-", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("bytes=5", LENGTH)).isEmpty();
+		assertThat(SnippetRawWriter.parseRange("items=0-5", LENGTH)).isEmpty();
+	}
+
+	@Test
+	void acceptsDeflateOnlyWithPositiveQuality() {
+		assertThat(SnippetRawWriter.acceptsDeflate("gzip, deflate, br")).isTrue();
+		assertThat(SnippetRawWriter.acceptsDeflate("*")).isTrue();
+		assertThat(SnippetRawWriter.acceptsDeflate("deflate;q=0")).isFalse();
+		assertThat(SnippetRawWriter.acceptsDeflate("gzip")).isFalse();
+		assertThat(SnippetRawWriter.acceptsDeflate(null)).isFalse();
+	}
+}
@@ -0,0 +1,132 @@
+package com.develop.snippet.domain.tag.support;
+
+import com.develop.snippet.domain.tag.repository.TagRepository.TagUsageView;
+import com.develop.snippet.domain.tag.support.TagAutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용량 가중 prefix trie (상위 목록 정렬, 증감, 0 이 된 태그 제외, 집계로 재동기화)
+ */
+class TagAutocompleteIndexTests {
+
+	private TagAutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		// 집계 조회(load/resync)는 쓰지 않고 rebuild 로 채운다
+		index = new TagAutocompleteIndex(null);
+		index.rebuild(List.of(
+				usage(1L, "java", 5),
+				usage(2L, "javascript", 3),
+				usage(3L, "jar", 1),
+				usage(4L, "javadoc", 3),
+				usage(5L, "python", 7)
+		));
+	}
+
+	@Test
+	void suggestsByUsageThenName() {
+		assertThat(names("ja")).containsExactly("java", "javadoc", "javascript", "jar");
+		assertThat(names("java")).containsExactly("java", "javadoc", "javascript");
+		assertThat(names("javas")).containsExactly("javascript");
+		assertThat(names("")).containsExactly("python", "java", "javadoc", "javascript", "jar");
+		assertThat(names("rust")).isEmpty();
+	}
+
+	@Test
+	void reordersAfterIncrementsAndDecrements() {
+		index.adjust(3L, "jar", 5);
+		assertThat(names("ja")).containsExactly("jar", "java", "javadoc", "javascript");
+
+		index.adjust(1L, null, -4);
+		index.adjust(2L, null, 1);
+		assertThat(names("ja")).containsExactly("jar", "javascript", "javadoc", "java");
+		assertThat(index.suggest("jar", 10)).containsExactly(new Suggestion("jar", 6));
+
+		// 공유 prefix 아래 다른 태그의 변경이 상위 노드 목록에도 반영
+		assertThat(names("")).containsExactly("python", "jar", "javascript", "javadoc", "java");
+	}
+
+	@Test
+	void dropsTagsAtZeroAndNeverGoesNegative() {
+		index.adjust(3L, null, -1);
+		assertThat(names("ja")).doesNotContain("jar");
+		assertThat(names("jar")).isEmpty();
+
+		index.adjust(3L, null, -1);
+		index.adjust(3L, "jar", 1);
+		assertThat(index.suggest("jar", 10)).containsExactly(new Suggestion("jar", 1));
+
+		// 기동 후 본 적 없는 태그의 감소는 무시, 새 태그는 +1 로 등록
+		index.adjust(99L, null, -1);
+		index.adjust(100L, "jakarta", 1);
+		assertThat(names("jak")).containsExactly("jakarta");
+	}
+
+	@Test
+	void keepsOnlyTopSuggestionsPerNode() {
+		List<TagUsageView> usages = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			usages.add(usage(10L + i, String.format("tag%02d", i), i + 1));
+		}
+		index.rebuild(usages);
+
+		List<String> top = names("tag");
+		assertThat(top).hasSize(TagAutocompleteIndex.MAX_SUGGESTIONS);
+		assertThat(top.getFirst()).isEqualTo("tag11");
+		assertThat(top).doesNotContain("tag00", "tag01");
+
+		// 목록 밖에 있던 태그가 올라오면 다시 포함
+		index.adjust(10L, null, 20);
+		assertThat(names("tag").getFirst()).isEqualTo("tag00");
+		assertThat(names("tag")).doesNotContain("tag01", "tag02");
+	}
+
+	@Test
+	void rebuildReplacesLocalCounts() {
+		// 다른 노드의 변경은 로컬 +1/-1 에 없으므로 집계로 맞춘다
+		index.adjust(1L, null, 10);
+		index.rebuild(List.of(
+				usage(1L, "java", 2),
+				usage(2L, "javascript", 4),
+				usage(3L, "jar", 0)
+		));
+
+		assertThat(index.suggest("ja", 10)).containsExactly(
+				new Suggestion("javascript", 4),
+				new Suggestion("java", 2)
+		);
+		assertThat(names("py")).isEmpty();
+	}
+
+	private List<String> names(String prefix) {
+		return index.suggest(prefix, TagAutocompleteIndex.MAX_SUGGESTIONS).stream()
+				.map(Suggestion::name)
+				.toList();
+	}
+
+	private static TagUsageView usage(Long tagId, String name, long usageCount) {
+		return new TagUsageView() {
+			@Override
+			public Long getTagId() {
+				return tagId;
+			}
+
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public Long getUsageCount() {
+				return usageCount;
+			}
+		};
+	}
+}
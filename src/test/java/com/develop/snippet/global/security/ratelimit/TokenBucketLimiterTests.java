@@ -0,0 +1,114 @@
+package com.develop.snippet.global.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 계산 (시계를 직접 움직여 확인)
+ * capacity 3, 초당 2개 -> interval 500ms, burst 허용 폭 1s
+ */
+class TokenBucketLimiterTests {
+
+	private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+	private final TokenBucketLimiter limiter = new TokenBucketLimiter(3, 2.0, 1000, clock::get);
+
+	@Test
+	void allowsBurstUpToCapacity() {
+		assertThat(limiter.tryAcquire("a")).isTrue();
+		assertThat(limiter.tryAcquire("a")).isTrue();
+		assertThat(limiter.tryAcquire("a")).isTrue();
+		assertThat(limiter.tryAcquire("a")).isFalse();
+
+		// key 마다 별도 bucket
+		assertThat(limiter.tryAcquire("b")).isTrue();
+	}
+
+	@Test
+	void returnsWaitUntilNextToken() {
+		drain("a");
+
+		assertThat(limiter.tryAcquireOrWait("a")).isEqualTo(INTERVAL);
+
+		clock.addAndGet(INTERVAL - 1);
+		assertThat(limiter.tryAcquireOrWait("a")).isEqualTo(1);
+
+		// 거절은 상태를 바꾸지 않으므로 기다린 만큼 줄어든다
+		clock.addAndGet(1);
+		assertThat(limiter.tryAcquireOrWait("a")).isZero();
+		assertThat(limiter.tryAcquireOrWait("a")).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		drain("a");
+
+		clock.addAndGet(INTERVAL);
+		assertThat(limiter.tryAcquire("a")).isTrue();
+		assertThat(limiter.tryAcquire("a")).isFalse();
+
+		// capacity 만큼 충전되면 다시 burst 가능, 그 이상은 쌓이지 않음
+		clock.addAndGet(INTERVAL * 10);
+		assertThat(drain("a")).isEqualTo(3);
+	}
+
+	@Test
+	void convertsWaitToRetryAfterSeconds() {
+		assertThat(TokenBucketLimiter.toRetryAfterSeconds(1)).isEqualTo(1);
+		assertThat(TokenBucketLimiter.toRetryAfterSeconds(INTERVAL)).isEqualTo(1);
+		assertThat(TokenBucketLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(1))).isEqualTo(1);
+		assertThat(TokenBucketLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1)).isEqualTo(2);
+	}
+
+	@Test
+	void grantsExactlyCapacityUnderContention() throws Exception {
+		TokenBucketLimiter wide = new TokenBucketLimiter(100, 1.0, 1000, clock::get);
+		int threads = 16;
+		int attemptsPerThread = 50;
+		AtomicInteger granted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int t = 0; t < threads; t++) {
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+					for (int i = 0; i < attemptsPerThread; i++) {
+						if (wide.tryAcquire("shared")) {
+							granted.incrementAndGet();
+						}
+					}
+				});
+			}
+			start.countDown();
+		} finally {
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// 시계가 멈춰 있으므로 CAS 경합과 관계없이 정확히 capacity 개만 허용
+		assertThat(granted.get()).isEqualTo(100);
+	}
+
+	private int drain(String key) {
+		int acquired = 0;
+		while (limiter.tryAcquire(key)) {
+			acquired++;
+		}
+		return acquired;
+	}
+}